@@ -1,8 +1,13 @@
 package io.quarkus.builder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
@@ -23,6 +28,8 @@ public final class BuildChain {
     private final List<BuildProvider> providers;
     private final int endStepCount;
     private final ClassLoader classLoader;
+    // the reverse of the dependents relation, lazily computed as it is only needed by some steps
+    private Map<StepInfo, List<StepInfo>> dependencies;
 
     BuildChain(final int initialSingleCount, final int initialMultiCount, final Set<StepInfo> startSteps,
             final Set<ItemId> consumed, BuildChainBuilder builder, final int endStepCount) {
@@ -123,4 +130,39 @@ ClassLoader getClassLoader() {
     int getEndStepCount() {
         return endStepCount;
     }
+
+    /**
+     * @return the steps which must complete before the given step can run, directly or not
+     */
+    Set<StepInfo> getTransitiveDependencies(StepInfo stepInfo) {
+        final Map<StepInfo, List<StepInfo>> dependencies = getDependencies();
+        final Set<StepInfo> result = new HashSet<>();
+        final Deque<StepInfo> toVisit = new ArrayDeque<>(dependencies.getOrDefault(stepInfo, List.of()));
+        while (!toVisit.isEmpty()) {
+            final StepInfo dependency = toVisit.poll();
+            if (result.add(dependency)) {
+                toVisit.addAll(dependencies.getOrDefault(dependency, List.of()));
+            }
+        }
+        return result;
+    }
+
+    private synchronized Map<StepInfo, List<StepInfo>> getDependencies() {
+        if (dependencies == null) {
+            final Map<StepInfo, List<StepInfo>> result = new HashMap<>();
+            final Set<StepInfo> visited = new HashSet<>(startSteps);
+            final Deque<StepInfo> toVisit = new ArrayDeque<>(startSteps);
+            while (!toVisit.isEmpty()) {
+                final StepInfo step = toVisit.poll();
+                for (StepInfo dependent : step.getDependents()) {
+                    result.computeIfAbsent(dependent, s -> new ArrayList<>()).add(step);
+                    if (visited.add(dependent)) {
+                        toVisit.add(dependent);
+                    }
+                }
+            }
+            dependencies = result;
+        }
+        return dependencies;
+    }
 }
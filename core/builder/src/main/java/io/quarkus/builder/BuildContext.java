@@ -6,6 +6,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -31,6 +32,9 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    // the time this step was submitted to the executor, i.e. when all its dependencies were completed
+    private volatile long scheduled;
+    private volatile BuildStepTimings timings;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
@@ -49,6 +53,39 @@ public String getBuildTargetName() {
         return execution.getBuildTargetName();
     }
 
+    /**
+     * Get the identifiers of the steps which must complete before this step can run, either because this step consumes
+     * the items they produce or because of an ordering constraint, directly or not.
+     *
+     * @return the identifiers of the build steps this step depends on (not {@code null})
+     */
+    public Set<String> getTransitiveDependencyIds() {
+        final Set<StepInfo> dependencies = execution.getBuildChain().getTransitiveDependencies(stepInfo);
+        final Set<String> result = new HashSet<>(dependencies.size());
+        for (StepInfo dependency : dependencies) {
+            result.add(dependency.getBuildStep().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Get the timings of the parts of this step, which are reported in the build metrics.
+     *
+     * @return the timings of this step (not {@code null})
+     */
+    public BuildStepTimings getTimings() {
+        BuildStepTimings timings = this.timings;
+        if (timings == null) {
+            synchronized (this) {
+                timings = this.timings;
+                if (timings == null) {
+                    this.timings = timings = new BuildStepTimings();
+                }
+            }
+        }
+        return timings;
+    }
+
     /**
      * Produce the given item. If the {@code type} refers to an item which is declared with multiplicity, then this
      * method can be called more than once for the given {@code type}, otherwise it must be called no more than once.
@@ -260,10 +297,15 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            schedule();
         }
     }
 
+    void schedule() {
+        scheduled = System.nanoTime();
+        execution.getExecutor().execute(this::run);
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -290,7 +332,10 @@ void run() {
             }
         } finally {
             long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            long waiting = TimeUnit.NANOSECONDS.toMillis(start - scheduled);
+            final BuildStepTimings timings = this.timings;
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, start, duration, waiting,
+                    timings == null ? Collections.emptyMap() : timings.toMillis());
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
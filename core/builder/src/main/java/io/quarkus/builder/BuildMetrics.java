@@ -12,9 +12,15 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
@@ -27,6 +33,7 @@ public class BuildMetrics {
     static final Logger LOG = Logger.getLogger(BuildMetrics.class.getName());
 
     private volatile LocalDateTime started;
+    private volatile long startedNanos;
     private volatile long duration;
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
@@ -43,15 +50,58 @@ public Collection<BuildStepRecord> getRecords() {
 
     public void buildStarted() {
         this.started = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        this.startedNanos = System.nanoTime();
     }
 
     public void buildFinished(long duration) {
         this.duration = duration;
     }
 
-    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+    /**
+     * @param startedNanos the value of {@link System#nanoTime()} when the execution started
+     * @param duration the duration in ms
+     * @param waiting the time in ms the step waited for a build thread once its dependencies were completed
+     * @param timings the time in ms spent in the parts of the step, see {@link BuildStepTimings}
+     */
+    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long startedNanos, long duration,
+            long waiting, Map<String, Long> timings) {
+        long offset = TimeUnit.NANOSECONDS.toMillis(startedNanos - this.startedNanos);
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, offset, duration, waiting,
+                        timings));
+    }
+
+    /**
+     * The critical path is the chain of build steps which determined the duration of the build: it ends with the step
+     * which completed last, and each step is preceded by its dependency which completed last.
+     *
+     * @return the records of the critical path, in execution order
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<String, List<BuildStepRecord>> dependencies = new HashMap<>();
+        BuildStepRecord last = null;
+        for (BuildStepRecord rec : records.values()) {
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                dependencies.computeIfAbsent(dependent.getBuildStep().getId(), k -> new ArrayList<>()).add(rec);
+            }
+            if (last == null || rec.getFinished() > last.getFinished()) {
+                last = rec;
+            }
+        }
+        LinkedList<BuildStepRecord> path = new LinkedList<>();
+        BuildStepRecord current = last;
+        while (current != null) {
+            path.addFirst(current);
+            BuildStepRecord previous = null;
+            for (BuildStepRecord dependency : dependencies.getOrDefault(current.stepInfo.getBuildStep().getId(),
+                    List.of())) {
+                if (previous == null || dependency.getFinished() > previous.getFinished()) {
+                    previous = dependency;
+                }
+            }
+            current = previous;
+        }
+        return path;
     }
 
     public void dumpTo(Path file) throws IOException {
@@ -65,10 +115,26 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             }
         });
 
+        Set<String> threads = new HashSet<>();
+        long stepsDuration = 0;
+        for (BuildStepRecord rec : sorted) {
+            threads.add(rec.thread);
+            stepsDuration += rec.duration;
+        }
+
         JsonObjectBuilder json = Json.object();
         json.put("buildTarget", buildTargetName);
         json.put("started", started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         json.put("duration", duration);
+        json.put("threads", threads.size());
+        // the sum of the durations of the steps, divided by the duration it tells how well the build threads were used
+        json.put("stepsDuration", stepsDuration);
+
+        JsonArrayBuilder criticalPath = Json.array();
+        json.put("criticalPath", criticalPath);
+        for (BuildStepRecord rec : getCriticalPath()) {
+            criticalPath.add(rec.id);
+        }
 
         JsonArrayBuilder steps = Json.array();
         json.put("records", steps);
@@ -78,7 +144,16 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("stepId", rec.stepInfo.getBuildStep().getId());
             recObject.put("thread", rec.thread);
             recObject.put("started", rec.started.format(formatter));
+            recObject.put("offset", rec.offset);
             recObject.put("duration", rec.duration);
+            recObject.put("waiting", rec.waiting);
+            if (!rec.timings.isEmpty()) {
+                JsonObjectBuilder timingsObject = Json.object();
+                for (Map.Entry<String, Long> timing : rec.timings.entrySet()) {
+                    timingsObject.put(timing.getKey(), timing.getValue());
+                }
+                recObject.put("timings", timingsObject);
+            }
             JsonArrayBuilder dependentsArray = Json.array();
             for (StepInfo dependent : rec.stepInfo.getDependents()) {
                 BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
@@ -96,6 +171,112 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
         }
     }
 
+    /**
+     * Writes a self-contained HTML report with the critical path and the build steps sorted by duration.
+     */
+    public void dumpHtmlTo(Path file) throws IOException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+        List<BuildStepRecord> sorted = new ArrayList<>(records.values());
+        sorted.sort(new Comparator<BuildStepRecord>() {
+            @Override
+            public int compare(BuildStepRecord o1, BuildStepRecord o2) {
+                return Long.compare(o2.duration, o1.duration);
+            }
+        });
+        Set<String> threads = new HashSet<>();
+        long stepsDuration = 0;
+        long waiting = 0;
+        for (BuildStepRecord rec : sorted) {
+            threads.add(rec.thread);
+            stepsDuration += rec.duration;
+            waiting += rec.waiting;
+        }
+        List<BuildStepRecord> criticalPath = getCriticalPath();
+        Set<BuildStepRecord> critical = new HashSet<>(criticalPath);
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
+            writer.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>Build metrics - ")
+                    .append(escapeHtml(buildTargetName)).append("</title>\n<style>\n")
+                    .append("body { font-family: sans-serif; margin: 2em; }\n")
+                    .append("table { border-collapse: collapse; margin-bottom: 2em; }\n")
+                    .append("th, td { border: 1px solid #ccc; padding: 0.3em 0.6em; text-align: left; }\n")
+                    .append("td.number { text-align: right; }\n")
+                    .append("tr.critical { background-color: #fde2e2; }\n")
+                    .append("</style>\n</head>\n<body>\n");
+            writer.append("<h1>Build metrics - ").append(escapeHtml(buildTargetName)).append("</h1>\n");
+            writer.append("<p>Executed ").append(String.valueOf(sorted.size())).append(" build steps on ")
+                    .append(String.valueOf(threads.size())).append(" threads in ").append(String.valueOf(duration))
+                    .append(" ms, started at ").append(started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .append(".</p>\n");
+            writer.append("<p>Total duration of the build steps: ").append(String.valueOf(stepsDuration))
+                    .append(" ms, average parallelism: ")
+                    .append(duration > 0 ? String.format("%.2f", (double) stepsDuration / duration) : "n/a")
+                    .append(", total time spent waiting for a build thread: ").append(String.valueOf(waiting))
+                    .append(" ms.</p>\n");
+
+            writer.append("<h2>Critical path</h2>\n<table>\n")
+                    .append("<tr><th>#</th><th>Build Step</th><th>Started</th><th>Waiting</th><th>Duration</th></tr>\n");
+            int index = 1;
+            for (BuildStepRecord rec : criticalPath) {
+                writer.append("<tr><td>").append(String.valueOf(index++)).append("</td><td>")
+                        .append(escapeHtml(rec.stepInfo.getBuildStep().getId())).append("</td><td class=\"number\">+")
+                        .append(String.valueOf(rec.offset)).append(" ms</td><td class=\"number\">")
+                        .append(String.valueOf(rec.waiting)).append(" ms</td><td class=\"number\">")
+                        .append(String.valueOf(rec.duration)).append(" ms</td></tr>\n");
+            }
+            writer.append("</table>\n");
+
+            writer.append("<h2>Build steps</h2>\n<table>\n")
+                    .append("<tr><th>#</th><th>Build Step</th><th>Started</th><th>Waiting</th><th>Duration</th>")
+                    .append("<th>Thread</th></tr>\n");
+            index = 1;
+            for (BuildStepRecord rec : sorted) {
+                writer.append(critical.contains(rec) ? "<tr class=\"critical\"><td>" : "<tr><td>")
+                        .append(String.valueOf(index++)).append("</td><td>")
+                        .append(escapeHtml(rec.stepInfo.getBuildStep().getId()));
+                if (!rec.timings.isEmpty()) {
+                    writer.append("<ul>");
+                    for (Map.Entry<String, Long> timing : rec.timings.entrySet()) {
+                        writer.append("<li>").append(escapeHtml(timing.getKey())).append(": ")
+                                .append(String.valueOf(timing.getValue())).append(" ms</li>");
+                    }
+                    writer.append("</ul>");
+                }
+                writer.append("</td><td>")
+                        .append(rec.started.format(formatter)).append("</td><td class=\"number\">")
+                        .append(String.valueOf(rec.waiting)).append(" ms</td><td class=\"number\">")
+                        .append(String.valueOf(rec.duration)).append(" ms</td><td>")
+                        .append(escapeHtml(rec.thread)).append("</td></tr>\n");
+            }
+            writer.append("</table>\n</body>\n</html>\n");
+        }
+    }
+
+    private static String escapeHtml(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    builder.append("&lt;");
+                    break;
+                case '>':
+                    builder.append("&gt;");
+                    break;
+                case '&':
+                    builder.append("&amp;");
+                    break;
+                case '"':
+                    builder.append("&quot;");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
     public static class BuildStepRecord {
 
         /**
@@ -115,17 +296,43 @@ public static class BuildStepRecord {
          */
         public final LocalTime started;
 
+        /**
+         * The time the execution started, in ms since the build started.
+         */
+        public final long offset;
+
         /**
          * The duration in ms.
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        /**
+         * The time in ms this build step waited for a build thread once its dependencies were completed.
+         */
+        public final long waiting;
+
+        /**
+         * The time in ms spent in the parts of this build step.
+         */
+        public final Map<String, Long> timings;
+
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long offset, long duration,
+                long waiting, Map<String, Long> timings) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
+            this.offset = offset;
             this.duration = duration;
+            this.waiting = waiting;
+            this.timings = timings;
+        }
+
+        /**
+         * @return the time the execution completed, in ms since the build started
+         */
+        public long getFinished() {
+            return offset + duration;
         }
 
     }
@@ -0,0 +1,47 @@
+package io.quarkus.builder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time spent in the parts of a build step, for example by the contributors the step delegates to, which is reported in
+ * the build metrics.
+ * <p>
+ * The timings can be recorded concurrently, by the tasks the build step submits to the build executor.
+ */
+public final class BuildStepTimings {
+
+    private final ConcurrentMap<String, LongAdder> timings = new ConcurrentHashMap<>();
+
+    BuildStepTimings() {
+    }
+
+    /**
+     * Add some time spent in the given part of the build step.
+     *
+     * @param name the name of the part of the build step (must not be {@code null})
+     * @param nanos the time spent, in nanoseconds
+     */
+    public void add(String name, long nanos) {
+        timings.computeIfAbsent(name, n -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * @return the total time spent in each part of the build step, in ms
+     */
+    Map<String, Long> toMillis() {
+        if (timings.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : timings.entrySet()) {
+            result.put(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue().sum()));
+        }
+        return result;
+    }
+}
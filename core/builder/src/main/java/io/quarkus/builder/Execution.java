@@ -89,7 +89,7 @@ BuildResult run() throws BuildException {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            getBuildContext(startStep).schedule();
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -1,11 +1,14 @@
 package io.quarkus.builder;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -24,6 +27,9 @@ public static final class DummyItem extends SimpleBuildItem {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -315,4 +321,65 @@ public void execute(final BuildContext context) {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String getId() {
+                return "slow";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+
+            @Override
+            public String getId() {
+                return "fast";
+            }
+        });
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String getId() {
+                return "last";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.consumes(DummyItem3.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        final BuildMetrics metrics = result.getMetrics();
+        assertEquals(3, metrics.getRecords().size());
+        final List<String> criticalPath = new ArrayList<>();
+        for (BuildMetrics.BuildStepRecord record : metrics.getCriticalPath()) {
+            criticalPath.add(record.stepInfo.getBuildStep().getId());
+            assertTrue(record.waiting >= 0);
+        }
+        assertEquals(List.of("slow", "last"), criticalPath);
+    }
 }
@@ -55,6 +55,7 @@
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildContext;
 import io.quarkus.builder.BuildStepBuilder;
+import io.quarkus.builder.BuildStepTimings;
 import io.quarkus.builder.ConsumeFlag;
 import io.quarkus.builder.ConsumeFlags;
 import io.quarkus.builder.ProduceFlag;
@@ -624,6 +625,8 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     } else if (rawTypeOf(parameterType) == Executor.class
                             || rawTypeOf(parameterType) == ExecutorService.class) {
                         methodParamFns.add((bc, bri) -> bc.getExecutor());
+                    } else if (rawTypeOf(parameterType) == BuildStepTimings.class) {
+                        methodParamFns.add((bc, bri) -> bc.getTimings());
                     } else if (parameterClass.isAnnotationPresent(ConfigRoot.class)) {
                         final ConfigRoot annotation = parameterClass.getAnnotation(ConfigRoot.class);
                         final ConfigPhase phase = annotation.phase();
@@ -924,7 +927,8 @@ public void execute(final BuildContext bc) {
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, stepId,
+                                                bc.getTransitiveDependencyIds()));
                                     }
 
                                 }
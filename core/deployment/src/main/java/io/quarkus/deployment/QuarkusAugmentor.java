@@ -164,6 +164,7 @@ public BuildResult run() throws Exception {
                 log.info(message);
                 if (Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"))) {
                     buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
+                    buildResult.getMetrics().dumpHtmlTo(targetDir.resolve("build-metrics.html"));
                 }
             } else {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
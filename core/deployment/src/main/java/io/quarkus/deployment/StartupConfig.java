@@ -0,0 +1,26 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot
+public class StartupConfig {
+
+    /**
+     * If set to true, the runtime init tasks recorded by build steps which do not depend on each other are run
+     * concurrently on startup. The dependencies between the tasks are determined from the dependencies between the build
+     * steps which recorded them.
+     * <p>
+     * When {@code quarkus.debug.print-startup-times} is set at runtime, the duration of each task and the critical path
+     * of the startup sequence are printed.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelRuntimeInit;
+
+    /**
+     * The maximum number of threads used to run the runtime init tasks when {@code parallel-runtime-init} is enabled,
+     * including the main thread.
+     */
+    @ConfigItem(defaultValue = "4")
+    public int runtimeInitThreads;
+}
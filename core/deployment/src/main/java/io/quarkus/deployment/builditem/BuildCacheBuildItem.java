@@ -0,0 +1,20 @@
+package io.quarkus.deployment.builditem;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+
+/**
+ * The persistent build cache, only produced for production builds if {@code quarkus.build-cache.enabled} is set
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private final BuildCache buildCache;
+
+    public BuildCacheBuildItem(BuildCache buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    public BuildCache getBuildCache() {
+        return buildCache;
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Set;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -7,15 +9,31 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final String buildStepId;
+    private final Set<String> dependencyBuildStepIds;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null, null);
+    }
+
+    /**
+     * @param buildStepId the id of the build step which recorded the bytecode
+     * @param dependencyBuildStepIds the ids of the build steps which the build step depends on, used to determine which
+     *        startup tasks can run concurrently
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, String buildStepId,
+            Set<String> dependencyBuildStepIds) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.buildStepId = buildStepId;
+        this.dependencyBuildStepIds = dependencyBuildStepIds;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.buildStepId = null;
+        this.dependencyBuildStepIds = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -25,4 +43,19 @@ public BytecodeRecorderImpl getBytecodeRecorder() {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the id of the build step which recorded the bytecode, or {@code null} if unknown
+     */
+    public String getBuildStepId() {
+        return buildStepId;
+    }
+
+    /**
+     * @return the ids of the build steps which the recording build step depends on, or {@code null} if unknown, in which
+     *         case the startup task must run after all the previous ones
+     */
+    public Set<String> getDependencyBuildStepIds() {
+        return dependencyBuildStepIds;
+    }
 }
@@ -0,0 +1,258 @@
+package io.quarkus.deployment.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+
+/**
+ * A persistent cache of augmentation results, stored in the build output directory and reused across builds.
+ * <p>
+ * The entries are keyed by a hash of the content of their inputs, computed with a {@link Key}. The entries which were not
+ * used by a build are removed when the build completes, so that the cache does not grow indefinitely, and the hit rates
+ * are logged.
+ */
+public final class BuildCache implements Closeable {
+
+    private static final Logger log = Logger.getLogger(BuildCache.class);
+
+    public static final String DIRECTORY = "quarkus-build-cache";
+
+    public static final String DEPENDENCY_INDEXES = "dependency-indexes";
+    public static final String APPLICATION_INDEX = "application-index";
+    public static final String TRANSFORMED_CLASSES = "transformed-classes";
+
+    private final Path directory;
+    private final String buildFingerprint;
+    private final Set<Path> used = ConcurrentHashMap.newKeySet();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public BuildCache(Path directory, String buildFingerprint) {
+        this.directory = directory;
+        this.buildFingerprint = buildFingerprint;
+    }
+
+    /**
+     * @return a hash of the dependencies and of the build time configuration, which must be added to the key of the entries
+     *         which depend on more than the content of their own inputs
+     */
+    public String getBuildFingerprint() {
+        return buildFingerprint;
+    }
+
+    public static Key newKey() {
+        return new Key().put(Version.getVersion());
+    }
+
+    /**
+     * @return the cached index, or {@code null} if there is no entry for the given key
+     */
+    public Index getIndex(String kind, Key key) {
+        Path file = entry(kind, key);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                Index index = new IndexReader(in).read();
+                stats(kind).hits.incrementAndGet();
+                return index;
+            } catch (IOException | RuntimeException e) {
+                // the entry may have been written by a version of Jandex which is not supported anymore
+                log.debugf(e, "Failed to read the cached index %s", file);
+            }
+        }
+        stats(kind).misses.incrementAndGet();
+        return null;
+    }
+
+    public void putIndex(String kind, Key key, Index index) {
+        Path file = entry(kind, key);
+        try {
+            Path tmp = createTempFile(file);
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            store(tmp, file);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to store the index %s", file);
+        }
+    }
+
+    /**
+     * @return the cached data, or {@code null} if there is no entry for the given key
+     */
+    public byte[] getData(String kind, Key key) {
+        Path file = entry(kind, key);
+        if (Files.isRegularFile(file)) {
+            try {
+                byte[] data = Files.readAllBytes(file);
+                stats(kind).hits.incrementAndGet();
+                return data;
+            } catch (IOException e) {
+                log.debugf(e, "Failed to read the cached entry %s", file);
+            }
+        }
+        stats(kind).misses.incrementAndGet();
+        return null;
+    }
+
+    public void putData(String kind, Key key, byte[] data) {
+        Path file = entry(kind, key);
+        try {
+            Path tmp = createTempFile(file);
+            Files.write(tmp, data);
+            store(tmp, file);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to store the entry %s", file);
+        }
+    }
+
+    /**
+     * Logs the hit rates, and removes the entries which were not used by this build.
+     */
+    @Override
+    public void close() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Build cache:");
+        boolean first = true;
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats kindStats = entry.getValue();
+            int hits = kindStats.hits.get();
+            int total = hits + kindStats.misses.get();
+            message.append(first ? " " : ", ").append(hits).append('/').append(total).append(' ')
+                    .append(entry.getKey().replace('-', ' ')).append(" reused");
+            first = false;
+            removeUnused(directory.resolve(entry.getKey()));
+        }
+        log.info(message);
+    }
+
+    private void removeUnused(Path kindDirectory) {
+        if (!Files.isDirectory(kindDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(kindDirectory)) {
+            for (Path entry : entries) {
+                if (!used.contains(entry)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to remove the unused entries of %s", kindDirectory);
+        }
+    }
+
+    private Path entry(String kind, Key key) {
+        Path file = directory.resolve(kind).resolve(key.toString());
+        used.add(file);
+        return file;
+    }
+
+    private Stats stats(String kind) {
+        return stats.computeIfAbsent(kind, k -> new Stats());
+    }
+
+    private static Path createTempFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    }
+
+    private static void store(Path tmp, Path file) throws IOException {
+        // the entry is either complete or absent, even if the build is interrupted
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static final class Stats {
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicInteger misses = new AtomicInteger();
+    }
+
+    /**
+     * A SHA-256 hash of the inputs of a cache entry.
+     */
+    public static final class Key {
+
+        private final MessageDigest digest;
+        private String value;
+
+        Key() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Key put(String value) {
+            checkNotComputed();
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            // separates the values, so that ("ab", "c") and ("a", "bc") have different keys
+            digest.update((byte) 0);
+            return this;
+        }
+
+        public Key put(byte[] value) {
+            checkNotComputed();
+            digest.update(value);
+            digest.update((byte) 0);
+            return this;
+        }
+
+        public Key putContent(Path file) throws IOException {
+            checkNotComputed();
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            digest.update((byte) 0);
+            return this;
+        }
+
+        /**
+         * @return the hexadecimal representation of the hash, the key can not be modified anymore
+         */
+        @Override
+        public String toString() {
+            if (value == null) {
+                byte[] hash = digest.digest();
+                StringBuilder sb = new StringBuilder(hash.length * 2);
+                for (byte b : hash) {
+                    sb.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1, 3));
+                }
+                value = sb.toString();
+            }
+            return value;
+        }
+
+        private void checkNotComputed() {
+            if (value != null) {
+                throw new IllegalStateException("The key has already been computed");
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.deployment.cache;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot
+public class BuildCacheConfig {
+
+    /**
+     * If set to true, the results of the expensive parts of the augmentation are stored in the
+     * {@code quarkus-build-cache} directory of the build output directory, and reused by the next production builds when
+     * their inputs are unchanged: the Jandex indexes of the application and of the dependencies which do not contain an
+     * index, and the bytecode of the classes transformed by cacheable transformers.
+     * <p>
+     * The entries are keyed by a hash of the content of their inputs. The transformed classes are also keyed by the
+     * versions of the dependencies and the build time configuration, so any change to them invalidates the transformed
+     * classes.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+}
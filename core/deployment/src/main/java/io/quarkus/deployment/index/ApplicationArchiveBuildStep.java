@@ -12,8 +12,10 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
 
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -32,9 +34,11 @@
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
@@ -89,13 +93,15 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            Optional<BuildCacheBuildItem> buildCache) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.buildCache = buildCache.map(BuildCacheBuildItem::getBuildCache).orElse(null);
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -248,15 +254,14 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree,
-                                        dependencyKey == null ? Collections.emptySet() : removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
-                            }
-                            indexCache.cache.put(rootPath, index);
+                        final Set<String> removedFromTree = dependencyKey == null ? Collections.emptySet()
+                                : removed.get(dependencyKey);
+                        final Index index;
+                        try {
+                            index = indexCache.indexJar(rootPath, removedFromTree,
+                                    () -> IndexingUtil.indexTree(tree, removedFromTree));
+                        } catch (IOException ioe) {
+                            throw new UncheckedIOException(ioe);
                         }
                         appArchives.add(new ApplicationArchiveImpl(index, tree, dependencyKey));
                         return null;
@@ -309,23 +314,59 @@ public void visitPath(PathVisit visit) {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
-            }
-        });
+        try {
+            return indexCache.indexJar(path, removed, () -> IndexingUtil.indexJar(path, removed));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
     }
 
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * For production builds, the indexes are stored in the persistent build cache if it is enabled.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        BuildCache buildCache;
+
+        Index indexJar(Path jar, Set<String> removed, JarIndexer indexer) throws IOException {
+            Index index = cache.get(jar);
+            if (index == null) {
+                index = buildCache == null ? indexer.index() : indexWithBuildCache(jar, removed, indexer);
+                cache.put(jar, index);
+            }
+            return index;
+        }
+
+        private Index indexWithBuildCache(Path jar, Set<String> removed, JarIndexer indexer) throws IOException {
+            if (removed == null && containsJandexIndex(jar)) {
+                // reading the index of the jar is as fast as reading the cached one
+                return indexer.index();
+            }
+            BuildCache.Key key = BuildCache.newKey().putContent(jar);
+            if (removed != null) {
+                for (String resource : new TreeSet<>(removed)) {
+                    key.put(resource);
+                }
+            }
+            Index index = buildCache.getIndex(BuildCache.DEPENDENCY_INDEXES, key);
+            if (index == null) {
+                index = indexer.index();
+                buildCache.putIndex(BuildCache.DEPENDENCY_INDEXES, key, index);
+            }
+            return index;
+        }
+
+        private static boolean containsJandexIndex(Path jar) throws IOException {
+            try (JarFile jarFile = new JarFile(jar.toFile())) {
+                return jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null;
+            }
+        }
+    }
+
+    private interface JarIndexer {
+        Index index() throws IOException;
     }
 }
@@ -234,6 +234,30 @@ public String toString() {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then the class files of the
+     * application and of its dependencies are also stored uncompressed in a single archive, which is memory mapped at
+     * startup so that classes are loaded without decompressing them or locking the jar files.
+     * <p>
+     * This increases the size of the application on disk by the uncompressed size of its classes. The archive is limited
+     * to 2GB, the classes which do not fit are loaded from the jars.
+     */
+    @ConfigItem
+    public boolean mappedClassData;
+
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then the application is
+     * launched once at the end of the build, and the classes loaded until it has started are recorded. The recorded
+     * classes are then loaded in parallel at the beginning of each startup.
+     * <p>
+     * The application must be able to start in the build environment, within 5 minutes. The main application of the
+     * command mode is not run, as the training run only covers startup. A profile covering the classes used to serve
+     * requests can also be recorded by running the application with {@code -Dquarkus.class-preload.record=true}:
+     * the profile in the {@code quarkus} directory is replaced when the application stops.
+     */
+    @ConfigItem
+    public boolean classPreloadTrainingRun;
+
     /**
      * Fernflower Decompiler configuration
      */
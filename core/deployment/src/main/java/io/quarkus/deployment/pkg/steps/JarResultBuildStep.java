@@ -5,6 +5,7 @@
 import java.io.BufferedInputStream;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,6 +38,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -52,6 +54,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.ClassPreloader;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -88,6 +91,7 @@
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.paths.PathVisit;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.utilities.JavaBinFinder;
 
 /**
  * This build step builds both the thin jars and uber jars.
@@ -108,6 +112,8 @@ public class JarResultBuildStep {
 
     private static final String DOT_JAR = ".jar";
 
+    private static final int CLASS_PRELOAD_TRAINING_RUN_TIMEOUT_MINUTES = 5;
+
     private static final Predicate<String> UBER_JAR_IGNORED_ENTRIES_PREDICATE = new IsEntryIgnoredForUberJarPredicate();
 
     private static final Predicate<String> UBER_JAR_CONCATENATED_ENTRIES_PREDICATE = new Predicate<>() {
@@ -146,6 +152,8 @@ public boolean test(String path) {
 
     public static final String APP = "app";
 
+    public static final String CLASS_DATA_ARCHIVE = "quarkus-classes.dat";
+
     public static final String QUARKUS = "quarkus";
 
     public static final String DEFAULT_FAST_JAR_DIRECTORY_NAME = "quarkus-app";
@@ -732,7 +740,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
-                    nonExistentResources);
+                    nonExistentResources, packageConfig.mappedClassData ? quarkus.resolve(CLASS_DATA_ARCHIVE) : null);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -820,6 +828,9 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
         } else {
             //if it is a rebuild we might have classes
         }
+        if (packageConfig.classPreloadTrainingRun) {
+            recordClassPreloadProfile(buildDir);
+        }
         try (Stream<Path> files = Files.walk(buildDir)) {
             files.forEach(new Consumer<Path>() {
                 @Override
@@ -831,6 +842,57 @@ public void accept(Path path) {
         return new JarBuildItem(initJar, null, libDir, packageConfig.type, null);
     }
 
+    /**
+     * Launches the application, which records the classes it loads and exits as soon as it has started, without running
+     * the main application of the command mode.
+     * The profile is not created if the application fails to start or does not exit in time.
+     */
+    private void recordClassPreloadProfile(Path buildDir) throws IOException {
+        String javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName();
+        List<String> command = List.of(javaBinPath,
+                "-D" + ClassPreloader.RECORD_PROPERTY + "=true",
+                "-D" + ClassPreloader.TRAINING_RUN_PROPERTY + "=true",
+                "-jar", QUARKUS_RUN_JAR);
+        Path profile = buildDir.resolve(ClassPreloader.PROFILE_FILE);
+        Files.deleteIfExists(profile);
+
+        log.info("Launching the class preload training run");
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to record the class preload profile", String.join(" ", command));
+        }
+        int exitCode;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(buildDir.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            }
+            Process process = processBuilder.start();
+            if (!process.waitFor(CLASS_PRELOAD_TRAINING_RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                //e.g. a @QuarkusMain which does not start Quarkus
+                process.destroyForcibly().waitFor();
+                log.warnf("The class preload training run did not exit within %d minutes, the classes will not be preloaded",
+                        CLASS_PRELOAD_TRAINING_RUN_TIMEOUT_MINUTES);
+                Files.deleteIfExists(profile);
+                return;
+            }
+            exitCode = process.exitValue();
+        } catch (Exception e) {
+            log.warn("Failed to launch the class preload training run", e);
+            return;
+        }
+        if (exitCode != 0) {
+            log.warnf("The class preload training run exited with error code: %d, the classes will not be preloaded",
+                    exitCode);
+            Files.deleteIfExists(profile);
+        } else if (!Files.exists(profile)) {
+            log.warn("The class preload training run did not record any class, the classes will not be preloaded");
+        }
+    }
+
     /**
      * @return a {@code Set} containing the key of the artifacts to load from the parent ClassLoader first.
      */
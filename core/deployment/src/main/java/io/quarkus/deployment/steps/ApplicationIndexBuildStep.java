@@ -7,7 +7,10 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.jboss.jandex.Index;
@@ -17,6 +20,8 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ResolvedDependency;
@@ -27,8 +32,8 @@ public class ApplicationIndexBuildStep {
 
     @BuildStep
     ApplicationIndexBuildItem build(ArchiveRootBuildItem root, CurateOutcomeBuildItem curation,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
-        Indexer indexer = new Indexer();
+            ClassLoadingConfig classLoadingConfig, Optional<BuildCacheBuildItem> buildCache) throws IOException {
+        List<Path> classFiles = new ArrayList<>();
         Set<String> removedApplicationClasses = removedApplicationClasses(curation, classLoadingConfig);
         for (Path p : root.getRootDirectories()) {
             Files.walkFileTree(p, new FileVisitor<Path>() {
@@ -44,10 +49,7 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IO
                             log.debugf("File %s will not be indexed because the class has been configured as part of '%s'",
                                     file, "quarkus.class-loading.removed-resources");
                         } else {
-                            log.debugf("Indexing %s", file);
-                            try (InputStream stream = Files.newInputStream(file)) {
-                                indexer.index(stream);
-                            }
+                            classFiles.add(file);
                         }
                     }
                     return FileVisitResult.CONTINUE;
@@ -78,10 +80,36 @@ public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOEx
                 }
             });
         }
-        Index appIndex = indexer.complete();
+
+        if (buildCache.isEmpty()) {
+            return new ApplicationIndexBuildItem(index(classFiles));
+        }
+        BuildCache cache = buildCache.get().getBuildCache();
+        BuildCache.Key key = BuildCache.newKey();
+        // the order of the walk depends on the file system
+        classFiles.sort(null);
+        for (Path classFile : classFiles) {
+            key.put(classFile.toString()).putContent(classFile);
+        }
+        Index appIndex = cache.getIndex(BuildCache.APPLICATION_INDEX, key);
+        if (appIndex == null) {
+            appIndex = index(classFiles);
+            cache.putIndex(BuildCache.APPLICATION_INDEX, key, appIndex);
+        }
         return new ApplicationIndexBuildItem(appIndex);
     }
 
+    private Index index(List<Path> classFiles) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Path classFile : classFiles) {
+            log.debugf("Indexing %s", classFile);
+            try (InputStream stream = Files.newInputStream(classFile)) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
     private Set<String> removedApplicationClasses(CurateOutcomeBuildItem curation, ClassLoadingConfig classLoadingConfig) {
         ResolvedDependency appArtifact = curation.getApplicationModel().getAppArtifact();
         Set<String> entry = classLoadingConfig.removedResources
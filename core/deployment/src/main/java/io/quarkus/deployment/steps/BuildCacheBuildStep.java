@@ -0,0 +1,77 @@
+package io.quarkus.deployment.steps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+import io.quarkus.deployment.cache.BuildCacheConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.maven.dependency.ResolvedDependency;
+import io.quarkus.runtime.LaunchMode;
+
+public class BuildCacheBuildStep {
+
+    @BuildStep
+    BuildCacheBuildItem buildCache(BuildCacheConfig config, LaunchModeBuildItem launchMode,
+            BuildSystemTargetBuildItem buildSystemTarget, CurateOutcomeBuildItem curateOutcome,
+            ConfigurationBuildItem configuration, QuarkusBuildCloseablesBuildItem closeables) throws IOException {
+        // the dev and test modes have their own in memory caches
+        if (!config.enabled || launchMode.getLaunchMode() != LaunchMode.NORMAL) {
+            return null;
+        }
+        BuildCache buildCache = new BuildCache(buildSystemTarget.getOutputDirectory().resolve(BuildCache.DIRECTORY),
+                buildFingerprint(curateOutcome, configuration));
+        return new BuildCacheBuildItem(closeables.add(buildCache));
+    }
+
+    private static String buildFingerprint(CurateOutcomeBuildItem curateOutcome, ConfigurationBuildItem configuration)
+            throws IOException {
+        BuildCache.Key key = BuildCache.newKey();
+        for (Map.Entry<String, String> entry : new TreeMap<>(configuration.getReadResult().getAllBuildTimeValues())
+                .entrySet()) {
+            key.put(entry.getKey()).put(entry.getValue());
+        }
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedDependency dependency : curateOutcome.getApplicationModel().getDependencies()) {
+            StringBuilder sb = new StringBuilder(dependency.toCompactCoords());
+            for (Path path : dependency.getResolvedPaths()) {
+                appendFileStamps(sb, path);
+            }
+            dependencies.add(sb.toString());
+        }
+        dependencies.sort(null);
+        for (String dependency : dependencies) {
+            key.put(dependency);
+        }
+        return key.toString();
+    }
+
+    private static void appendFileStamps(StringBuilder sb, Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            // the workspace modules are directories which change without their coordinates changing
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(path)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                appendFileStamps(sb, file);
+            }
+        } else if (Files.exists(path)) {
+            sb.append(';').append(path).append(':').append(Files.size(path)).append(':')
+                    .append(Files.getLastModifiedTime(path).toMillis());
+        }
+    }
+}
@@ -15,6 +15,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,6 +25,7 @@
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 import org.objectweb.asm.ClassReader;
@@ -34,16 +36,19 @@
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.builder.BuildStepTimings;
 import io.quarkus.deployment.QuarkusClassVisitor;
 import io.quarkus.deployment.QuarkusClassWriter;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RemovedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.deployment.pkg.PackageConfig;
@@ -77,7 +82,7 @@ TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBu
             LaunchModeBuildItem launchModeBuildItem, ClassLoadingConfig classLoadingConfig,
             CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
             ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig,
-            ExecutorService buildExecutor)
+            ExecutorService buildExecutor, Optional<BuildCacheBuildItem> buildCacheBuildItem, BuildStepTimings timings)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources.isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -109,6 +114,7 @@ TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBu
                     // class reader options are bit flags (see org.objectweb.asm.ClassReader)
                     (oldValue, newValue) -> oldValue | newValue);
         }
+        final BuildCache buildCache = buildCacheBuildItem.map(BuildCacheBuildItem::getBuildCache).orElse(null);
         QuarkusClassLoader cl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
@@ -191,74 +197,96 @@ public byte[] apply(String className, byte[] originalBytes) {
                     }
                 }
             }
-            String classFileName = className.replace('.', '/') + ".class";
-            List<ClassPathElement> archives = cl.getElementsWithResource(classFileName);
-            if (!archives.isEmpty()) {
-                ClassPathElement classPathElement = archives.get(0);
-                Path jar = classPathElement.getRoot();
-                if (jar == null) {
-                    log.warnf("Cannot transform %s as its containing application archive could not be found.",
-                            entry.getKey());
-                    continue;
-                }
+            final List<BytecodeTransformerBuildItem> classTransformers = entry.getValue();
+            // the class lookup and the transformation are both run on the build executor, so that the classes are
+            // processed in parallel without a sequential preparation phase
+            transformed.add(buildExecutor.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
+                @Override
+                public TransformedClassesBuildItem.TransformedClass call() throws Exception {
+                    String classFileName = className.replace('.', '/') + ".class";
+                    List<ClassPathElement> archives = cl.getElementsWithResource(classFileName);
+                    if (archives.isEmpty()) {
+                        log.warnf("Cannot transform %s as its containing application archive could not be found.",
+                                className);
+                        return null;
+                    }
+                    ClassPathElement classPathElement = archives.get(0);
+                    Path jar = classPathElement.getRoot();
+                    if (jar == null) {
+                        log.warnf("Cannot transform %s as its containing application archive could not be found.",
+                                className);
+                        return null;
+                    }
 
-                boolean continueOnFailure = entry.getValue().stream()
-                        .filter(a -> !a.isContinueOnFailure())
-                        .findAny().isEmpty();
-                List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors = entry.getValue().stream()
-                        .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
-                        .map(BytecodeTransformerBuildItem::getVisitorFunction)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-                List<BiFunction<String, byte[], byte[]>> preVisitFunctions = entry.getValue().stream()
-                        .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
-                        .map(BytecodeTransformerBuildItem::getInputTransformer)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-                transformedToArchive.put(classFileName, jar);
-                transformed.add(buildExecutor.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
-                    @Override
-                    public TransformedClassesBuildItem.TransformedClass call() throws Exception {
-                        ClassLoader old = Thread.currentThread().getContextClassLoader();
-                        try {
-                            byte[] classData = classPathElement.getResource(classFileName).getData();
-                            Thread.currentThread().setContextClassLoader(transformCl);
-                            Set<String> constValues = constScanning.get(className);
-                            if (constValues != null && !noConstScanning.contains(className)) {
-                                if (!ConstPoolScanner.constPoolEntryPresent(classData, constValues)) {
-                                    return null;
-                                }
+                    boolean continueOnFailure = classTransformers.stream()
+                            .filter(a -> !a.isContinueOnFailure())
+                            .findAny().isEmpty();
+                    List<BytecodeTransformerBuildItem> sorted = classTransformers.stream()
+                            .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
+                            .collect(Collectors.toList());
+                    List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors = sorted.stream()
+                            .map(BytecodeTransformerBuildItem::getVisitorFunction)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+                    List<BiFunction<String, byte[], byte[]>> preVisitFunctions = sorted.stream()
+                            .map(BytecodeTransformerBuildItem::getInputTransformer)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+                    // the transformers which are not cacheable may depend on other classes than the transformed one
+                    final String transformerIds = cacheable && buildCache != null
+                            ? transformerIds(sorted, classReaderOptions.getOrDefault(className, 0))
+                            : null;
+                    transformedToArchive.put(classFileName, jar);
+                    ClassLoader old = Thread.currentThread().getContextClassLoader();
+                    try {
+                        byte[] classData = classPathElement.getResource(classFileName).getData();
+                        Thread.currentThread().setContextClassLoader(transformCl);
+                        Set<String> constValues = constScanning.get(className);
+                        if (constValues != null && !noConstScanning.contains(className)) {
+                            if (!ConstPoolScanner.constPoolEntryPresent(classData, constValues)) {
+                                return null;
                             }
-                            byte[] data = transformClass(className, visitors, classData, preVisitFunctions,
+                        }
+                        BuildCache.Key key = null;
+                        byte[] data = null;
+                        if (transformerIds != null && classData != null) {
+                            key = BuildCache.newKey().put(buildCache.getBuildFingerprint()).put(className)
+                                    .put(transformerIds).put(classData);
+                            data = buildCache.getData(BuildCache.TRANSFORMED_CLASSES, key);
+                        }
+                        if (data == null) {
+                            long start = System.nanoTime();
+                            data = transformClass(className, visitors, classData, preVisitFunctions,
                                     classReaderOptions.getOrDefault(className, 0));
-                            TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
-                                    className, data,
-                                    classFileName, eager.contains(className));
-                            if (cacheable && launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT
-                                    && classData != null) {
-                                transformedClassesCache.put(className, transformedClass);
+                            timings.add(transformerNames(sorted), System.nanoTime() - start);
+                            if (key != null && data != null) {
+                                buildCache.putData(BuildCache.TRANSFORMED_CLASSES, key, data);
                             }
-                            return transformedClass;
-                        } catch (Throwable e) {
-                            if (continueOnFailure) {
-                                if (log.isDebugEnabled()) {
-                                    log.errorf(e, "Failed to transform %s", className);
-                                } else {
-                                    log.errorf("Failed to transform %s", className);
-                                }
-                                return null;
+                        }
+                        TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
+                                className, data,
+                                classFileName, eager.contains(className));
+                        if (cacheable && launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT
+                                && classData != null) {
+                            transformedClassesCache.put(className, transformedClass);
+                        }
+                        return transformedClass;
+                    } catch (Throwable e) {
+                        if (continueOnFailure) {
+                            if (log.isDebugEnabled()) {
+                                log.errorf(e, "Failed to transform %s", className);
                             } else {
-                                throw e;
+                                log.errorf("Failed to transform %s", className);
                             }
-                        } finally {
-                            Thread.currentThread().setContextClassLoader(old);
+                            return null;
+                        } else {
+                            throw e;
                         }
+                    } finally {
+                        Thread.currentThread().setContextClassLoader(old);
                     }
-                }));
-            } else {
-                log.warnf("Cannot transform %s as its containing application archive could not be found.",
-                        entry.getKey());
-            }
+                }
+            }));
         }
 
         handleRemovedResources(classLoadingConfig, curateOutcomeBuildItem, transformedClassesByJar, removedResourceBuildItems);
@@ -380,6 +408,41 @@ private byte[] transformClass(String className, List<BiFunction<String, ClassVis
         return data;
     }
 
+    /**
+     * Names the transformers of a class in the build metrics. The visitors of a class are chained and applied in a single
+     * pass over the class, so the time spent is reported for the set of transformers of the class.
+     */
+    private static String transformerNames(List<BytecodeTransformerBuildItem> transformers) {
+        return transformers.stream()
+                .flatMap(i -> Stream.of(transformerId(i.getInputTransformer()), transformerId(i.getVisitorFunction())))
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .collect(Collectors.joining(" + "));
+    }
+
+    /**
+     * Identifies the transformers of a class for the build cache, the transformers being identified by their classes.
+     */
+    private static String transformerIds(List<BytecodeTransformerBuildItem> transformers, int classReaderOptions) {
+        StringBuilder sb = new StringBuilder().append(classReaderOptions);
+        transformers.stream()
+                .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
+                .forEach(i -> sb.append(';').append(i.getPriority())
+                        .append(':').append(transformerId(i.getVisitorFunction()))
+                        .append(':').append(transformerId(i.getInputTransformer())));
+        return sb.toString();
+    }
+
+    private static String transformerId(Object transformer) {
+        if (transformer == null) {
+            return "";
+        }
+        String name = transformer.getClass().getName();
+        // the names of the lambda classes are not stable across JVM runs
+        int lambda = name.indexOf("$$Lambda");
+        return lambda > 0 ? name.substring(0, lambda) : name;
+    }
+
     private void handleTransformedClass(Map<String, Path> transformedToArchive,
             Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar,
             TransformedClassesBuildItem.TransformedClass res) {
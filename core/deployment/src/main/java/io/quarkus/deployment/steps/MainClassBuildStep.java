@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
@@ -31,6 +32,7 @@
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -78,6 +80,7 @@
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
+import io.quarkus.runtime.StartupPlan;
 import io.quarkus.runtime.StartupTask;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
@@ -125,7 +128,8 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
             Optional<AppCDSRequestedBuildItem> appCDSRequested,
             Optional<AppCDSControlPointBuildItem> appCDSControlPoint,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            StartupConfig startupConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -257,10 +261,15 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
+        if (startupConfig.parallelRuntimeInit) {
+            writeStartupPlan(mainMethod, startupConfig.runtimeInitThreads, substitutions, recordableConstructorBuildItems,
                     loaders, constants, gizmoOutput, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, recordableConstructorBuildItems,
+                        loaders, constants, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -450,6 +459,56 @@ private void generateMainForQuarkusApplication(String quarkusApplicationClassNam
         file.close();
     }
 
+    /**
+     * Runs the runtime init tasks with a {@link StartupPlan}, each task depending on the tasks recorded by the build steps
+     * its build step depends on. The tasks without dependency information, such as the config setup, are barriers: they
+     * run after all the previous tasks and before all the following ones.
+     */
+    private void writeStartupPlan(List<MainBytecodeRecorderBuildItem> mainMethod, int threads,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        ResultHandle plan = bytecodeCreator.newInstance(ofConstructor(StartupPlan.class, StartupContext.class, int.class),
+                startupContext, bytecodeCreator.load(threads));
+        List<MainBytecodeRecorderBuildItem> tasks = new ArrayList<>();
+        int lastBarrier = -1;
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String taskClassName = writeStartupTask(holder.getBytecodeRecorder(),
+                    holder.getGeneratedStartupContextClassName(), substitutions, recordableConstructorBuildItems, loaders,
+                    constants, gizmoOutput);
+            if (taskClassName == null) {
+                continue;
+            }
+            Set<String> dependencyIds = holder.getDependencyBuildStepIds();
+            List<Integer> dependencies = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                // the tasks before the last barrier are completed when the barrier is
+                if (dependencyIds == null || i == lastBarrier
+                        || (i > lastBarrier && dependencyIds.contains(tasks.get(i).getBuildStepId()))) {
+                    dependencies.add(i);
+                }
+            }
+            if (dependencyIds == null) {
+                lastBarrier = tasks.size();
+            }
+            tasks.add(holder);
+
+            ResultHandle dependencyArray = bytecodeCreator.newArray(int.class, dependencies.size());
+            for (int i = 0; i < dependencies.size(); i++) {
+                bytecodeCreator.writeArrayValue(dependencyArray, i, bytecodeCreator.load(dependencies.get(i).intValue()));
+            }
+            String name = holder.getBuildStepId() != null ? holder.getBuildStepId() : taskClassName;
+            bytecodeCreator.invokeVirtualMethod(
+                    ofMethod(StartupPlan.class, "addTask", void.class, String.class, StartupTask.class, int[].class), plan,
+                    bytecodeCreator.load(name), bytecodeCreator.newInstance(ofConstructor(taskClassName)), dependencyArray);
+        }
+        bytecodeCreator.invokeVirtualMethod(ofMethod(StartupPlan.class, "run", void.class), plan);
+    }
+
     private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
             List<ObjectSubstitutionBuildItem> substitutions,
             List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
@@ -458,10 +517,34 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String taskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                recordableConstructorBuildItems, loaders, constants, gizmoOutput);
+        if (taskClassName == null) {
             return;
         }
 
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(taskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the bytecode of the recorder if needed.
+     *
+     * @return the name of the startup task class, or {@code null} if there is nothing to run
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
@@ -478,12 +561,7 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             }
             recorder.writeBytecode(gizmoOutput);
         }
-
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
@@ -0,0 +1,73 @@
+package io.quarkus.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testEntriesAreReusedByTheNextBuild() throws IOException {
+        BuildCache first = new BuildCache(dir, "fingerprint");
+        assertNull(first.getData(BuildCache.TRANSFORMED_CLASSES, key("a")));
+        first.putData(BuildCache.TRANSFORMED_CLASSES, key("a"), "transformed".getBytes(StandardCharsets.UTF_8));
+        assertNull(first.getIndex(BuildCache.APPLICATION_INDEX, key("index")));
+        first.putIndex(BuildCache.APPLICATION_INDEX, key("index"), Index.of(BuildCacheTest.class));
+        first.close();
+
+        BuildCache second = new BuildCache(dir, "fingerprint");
+        assertArrayEquals("transformed".getBytes(StandardCharsets.UTF_8),
+                second.getData(BuildCache.TRANSFORMED_CLASSES, key("a")));
+        Index index = second.getIndex(BuildCache.APPLICATION_INDEX, key("index"));
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(DotName.createSimple(BuildCacheTest.class.getName())));
+        assertNull(second.getData(BuildCache.TRANSFORMED_CLASSES, key("b")));
+        second.close();
+    }
+
+    @Test
+    public void testUnusedEntriesAreRemoved() throws IOException {
+        BuildCache first = new BuildCache(dir, "fingerprint");
+        first.getData(BuildCache.TRANSFORMED_CLASSES, key("a"));
+        first.putData(BuildCache.TRANSFORMED_CLASSES, key("a"), new byte[] { 1 });
+        first.getData(BuildCache.TRANSFORMED_CLASSES, key("b"));
+        first.putData(BuildCache.TRANSFORMED_CLASSES, key("b"), new byte[] { 2 });
+        first.close();
+
+        BuildCache second = new BuildCache(dir, "fingerprint");
+        assertNotNull(second.getData(BuildCache.TRANSFORMED_CLASSES, key("a")));
+        second.close();
+
+        Path transformed = dir.resolve(BuildCache.TRANSFORMED_CLASSES);
+        assertTrue(Files.exists(transformed.resolve(key("a").toString())));
+        assertFalse(Files.exists(transformed.resolve(key("b").toString())));
+    }
+
+    @Test
+    public void testKeySeparatesValues() {
+        assertEquals(key("a").toString(), key("a").toString());
+        assertNotEquals(BuildCache.newKey().put("ab").put("c").toString(),
+                BuildCache.newKey().put("a").put("bc").toString());
+    }
+
+    private static BuildCache.Key key(String value) {
+        return BuildCache.newKey().put(value);
+    }
+}
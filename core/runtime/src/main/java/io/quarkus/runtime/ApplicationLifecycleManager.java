@@ -23,6 +23,7 @@
 import org.wildfly.common.lock.Locks;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.bootstrap.runner.ClassPreloader;
 import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.ConfigurationException;
@@ -110,7 +111,11 @@ public static void run(Application application, Class<? extends QuarkusApplicati
 
             application.start(args);
             //now we are started, we either run the main application or just wait to exit
-            if (quarkusApplication != null) {
+            if (Boolean.getBoolean(ClassPreloader.TRAINING_RUN_PROPERTY)) {
+                //the classes loaded during startup have been recorded, they are written when the JVM exits
+                //the training run only covers startup, so the main application of the command mode is not run either
+                exit();
+            } else if (quarkusApplication != null) {
                 BeanManager beanManager = CDI.current().getBeanManager();
                 Set<Bean<?>> beans = beanManager.getBeans(quarkusApplication, Any.Literal.INSTANCE);
                 Bean<?> bean = null;
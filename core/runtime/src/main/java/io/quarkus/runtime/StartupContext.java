@@ -30,12 +30,16 @@ public StartupContext() {
         ShutdownContext shutdownContext = new ShutdownContext() {
             @Override
             public void addShutdownTask(Runnable runnable) {
-                shutdownTasks.add(runnable);
+                synchronized (shutdownTasks) {
+                    shutdownTasks.add(runnable);
+                }
             }
 
             @Override
             public void addLastShutdownTask(Runnable runnable) {
-                lastShutdownTasks.add(runnable);
+                synchronized (lastShutdownTasks) {
+                    lastShutdownTasks.add(runnable);
+                }
             }
         };
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -50,21 +54,22 @@ public String[] get() {
         });
     }
 
-    public void putValue(String name, Object value) {
+    // the values are synchronized as the runtime init tasks may run concurrently, see StartupPlan
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
@@ -0,0 +1,185 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the runtime init startup tasks, the tasks which do not depend on each other being run concurrently on a bounded
+ * number of threads. The dependencies of the tasks are determined at build time from the build step dependencies.
+ * <p>
+ * This class is used by generated bytecode, and should not be used directly.
+ */
+public class StartupPlan {
+
+    private static final int DONE = -1;
+
+    private final StartupContext startupContext;
+    private final int threads;
+    private final List<String> names = new ArrayList<>();
+    private final List<StartupTask> tasks = new ArrayList<>();
+    private final List<int[]> dependencies = new ArrayList<>();
+
+    private long[] started;
+    private long[] finished;
+
+    public StartupPlan(StartupContext startupContext, int threads) {
+        this.startupContext = startupContext;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * @param dependencies the indexes of the tasks which must complete before this task, which must have been added
+     *        before this task
+     */
+    public void addTask(String name, StartupTask task, int[] dependencies) {
+        names.add(name);
+        tasks.add(task);
+        this.dependencies.add(dependencies);
+    }
+
+    public void run() {
+        final int size = tasks.size();
+        if (size == 0) {
+            return;
+        }
+        started = new long[size];
+        finished = new long[size];
+        final AtomicInteger[] pending = new AtomicInteger[size];
+        final List<List<Integer>> dependents = new ArrayList<>(size);
+        final BlockingQueue<Integer> ready = new LinkedBlockingQueue<>();
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+            pending[i] = new AtomicInteger(dependencies.get(i).length);
+            for (int dependency : dependencies.get(i)) {
+                dependents.get(dependency).add(i);
+            }
+            if (dependencies.get(i).length == 0) {
+                ready.add(i);
+            }
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(size);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                while (true) {
+                    int index;
+                    try {
+                        index = ready.take();
+                    } catch (InterruptedException e) {
+                        failure.compareAndSet(null, e);
+                        stop(ready);
+                        return;
+                    }
+                    if (index == DONE || failure.get() != null) {
+                        // a task failed while this one was ready, it must not run
+                        return;
+                    }
+                    started[index] = System.nanoTime();
+                    try {
+                        tasks.get(index).deploy(startupContext);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                        stop(ready);
+                        return;
+                    } finally {
+                        finished[index] = System.nanoTime();
+                    }
+                    if (failure.get() != null) {
+                        // another task failed, the dependent tasks must not run
+                        return;
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        stop(ready);
+                        return;
+                    }
+                    for (int dependent : dependents.get(index)) {
+                        if (pending[dependent].decrementAndGet() == 0) {
+                            ready.add(dependent);
+                        }
+                    }
+                }
+            }
+        };
+
+        final long start = System.nanoTime();
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        final List<Thread> workers = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; i++) {
+            Thread thread = new Thread(worker, "quarkus-startup-" + i);
+            thread.setDaemon(true);
+            thread.setContextClassLoader(tccl);
+            thread.start();
+            workers.add(thread);
+        }
+        // the current thread is also used to run the tasks
+        worker.run();
+        for (Thread thread : workers) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new RuntimeException(t);
+        }
+        if (StepTiming.isEnabled()) {
+            printReport(start);
+        }
+    }
+
+    private void stop(BlockingQueue<Integer> ready) {
+        // one marker per thread, the threads blocked waiting for a task are released
+        for (int i = 0; i < threads; i++) {
+            ready.add(DONE);
+        }
+    }
+
+    private void printReport(long start) {
+        StringBuilder report = new StringBuilder("Runtime init tasks run on ").append(threads).append(" threads:\n");
+        int last = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            report.append(String.format("  %s: started at %dms, completed in %dms%n", names.get(i), millis(started[i] - start),
+                    millis(finished[i] - started[i])));
+            if (finished[i] > finished[last]) {
+                last = i;
+            }
+        }
+        // the critical path is the chain of tasks which completed last
+        List<String> criticalPath = new ArrayList<>();
+        int current = last;
+        while (current >= 0) {
+            criticalPath.add(0, names.get(current) + " (" + millis(finished[current] - started[current]) + "ms)");
+            int previous = -1;
+            for (int dependency : dependencies.get(current)) {
+                if (previous < 0 || finished[dependency] > finished[previous]) {
+                    previous = dependency;
+                }
+            }
+            current = previous;
+        }
+        report.append("Critical path (").append(millis(finished[last] - start)).append("ms): ")
+                .append(String.join(" -> ", criticalPath));
+        System.out.println(report);
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -18,6 +18,10 @@ public static void configureEnabled() {
         stepTimingEnabled = System.getProperty(PRINT_STARTUP_TIMES, "false").equalsIgnoreCase("true");
     }
 
+    public static boolean isEnabled() {
+        return stepTimingEnabled;
+    }
+
     public static void configureStart() {
         stepTimingStart = System.nanoTime();
     }
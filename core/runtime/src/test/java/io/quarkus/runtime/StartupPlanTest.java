@@ -0,0 +1,104 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupPlanTest {
+
+    @Test
+    public void testDependenciesRunFirst() {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        StartupPlan plan = new StartupPlan(new StartupContext(), 4);
+        plan.addTask("a", recording(order, "a"), new int[0]);
+        plan.addTask("b", recording(order, "b"), new int[] { 0 });
+        plan.addTask("c", recording(order, "c"), new int[] { 0 });
+        plan.addTask("d", recording(order, "d"), new int[] { 1, 2 });
+        plan.run();
+
+        assertEquals(4, order.size());
+        assertEquals("a", order.get(0));
+        assertEquals("d", order.get(3));
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() {
+        // both tasks wait for each other, which only completes if they run at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        StartupTask task = new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                latch.countDown();
+                try {
+                    assertTrue(latch.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        StartupPlan plan = new StartupPlan(new StartupContext(), 2);
+        plan.addTask("a", task, new int[0]);
+        plan.addTask("b", task, new int[0]);
+        plan.run();
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void testFailurePropagation() {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        IllegalStateException failure = new IllegalStateException("failed");
+        StartupPlan plan = new StartupPlan(new StartupContext(), 4);
+        plan.addTask("a", recording(order, "a"), new int[0]);
+        plan.addTask("b", new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                throw failure;
+            }
+        }, new int[] { 0 });
+        plan.addTask("c", recording(order, "c"), new int[] { 1 });
+        plan.addTask("d", recording(order, "d"), new int[] { 2 });
+
+        assertSame(failure, assertThrows(IllegalStateException.class, plan::run));
+        // the tasks depending on the failed one are not run
+        assertEquals(List.of("a"), order);
+    }
+
+    @Test
+    public void testSequentialFallback() {
+        List<String> order = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        StartupPlan plan = new StartupPlan(new StartupContext(), 0);
+        for (String name : List.of("a", "b", "c")) {
+            plan.addTask(name, new StartupTask() {
+                @Override
+                public void deploy(StartupContext context) {
+                    order.add(name);
+                    threads.add(Thread.currentThread());
+                }
+            }, new int[0]);
+        }
+        plan.run();
+
+        // a single thread, the current one, runs the tasks in the order they were added
+        assertEquals(List.of("a", "b", "c"), order);
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    private static StartupTask recording(List<String> order, String name) {
+        return new StartupTask() {
+            @Override
+            public void deploy(StartupContext context) {
+                order.add(name);
+            }
+        };
+    }
+}
@@ -10,6 +10,7 @@
 import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.junit.jupiter.api.Assertions;
@@ -43,9 +44,12 @@ public void testMetricsOfDefaultDS() throws SQLException {
                 .get(new MetricID("agroal.acquire.count", new Tag("datasource", "default")));
         Gauge<?> maxUsed = registry.getGauges()
                 .get(new MetricID("agroal.max.used.count", new Tag("datasource", "default")));
+        SimpleTimer acquireTime = registry.getSimpleTimers()
+                .get(new MetricID("agroal.acquire.time", new Tag("datasource", "default")));
 
         Assertions.assertNotNull(acquireCount, "Agroal metrics should be registered eagerly");
         Assertions.assertNotNull(maxUsed, "Agroal metrics should be registered eagerly");
+        Assertions.assertNotNull(acquireTime, "Agroal metrics should be registered eagerly");
 
         try (Connection connection = defaultDS.getConnection()) {
             try (Statement statement = connection.createStatement()) {
@@ -55,6 +59,7 @@ public void testMetricsOfDefaultDS() throws SQLException {
 
         Assertions.assertEquals(1L, acquireCount.getCount());
         Assertions.assertEquals(1L, maxUsed.getValue());
+        Assertions.assertEquals(1L, acquireTime.getCount());
     }
 
     @Test
@@ -0,0 +1,139 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StripedConnectionCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "4")
+            .overrideConfigKey("quarkus.datasource.jdbc.connection-cache", "striped")
+            .overrideConfigKey("quarkus.datasource.jdbc.connection-cache-stripes", "2");
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @Test
+    public void testConcurrentAcquisitions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(this::selectOne));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStripes() throws Exception {
+        ConnectionCache cache = defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionCache();
+        // the fake connections must not be handed to the pool
+        cache.reset();
+        try {
+            TestAcquirable first = new TestAcquirable();
+            TestAcquirable second = new TestAcquirable();
+            runOnStripe(0, () -> {
+                cache.put(first);
+                return null;
+            });
+            runOnStripe(1, () -> {
+                cache.put(second);
+                return null;
+            });
+            // each thread gets the connection cached in its own stripe
+            assertSame(second, runOnStripe(1, cache::get));
+            assertSame(first, runOnStripe(0, cache::get));
+            // the acquired connections are not handed out again
+            assertNull(runOnStripe(0, cache::get));
+            assertNull(runOnStripe(1, cache::get));
+        } finally {
+            cache.reset();
+        }
+    }
+
+    @Test
+    public void testStealing() throws Exception {
+        ConnectionCache cache = defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionCache();
+        cache.reset();
+        try {
+            TestAcquirable idle = new TestAcquirable();
+            runOnStripe(0, () -> {
+                cache.put(idle);
+                return null;
+            });
+            // the stripe of the thread is empty, so it steals the idle connection of the other stripe
+            assertSame(idle, runOnStripe(1, cache::get));
+            assertNull(runOnStripe(0, cache::get));
+        } finally {
+            cache.reset();
+        }
+    }
+
+    /**
+     * Runs the task on a new thread mapped to the given stripe, the stripe of a thread being derived from its id.
+     */
+    private static <T> T runOnStripe(int stripe, Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Thread thread;
+        do {
+            thread = new Thread(future);
+        } while ((thread.getId() & 1) != stripe);
+        thread.start();
+        return future.get();
+    }
+
+    private int selectOne() throws SQLException {
+        try (Connection connection = defaultDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    static class TestAcquirable implements Acquirable {
+
+        private final AtomicBoolean acquired = new AtomicBoolean();
+
+        @Override
+        public boolean acquire() {
+            return acquired.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isAcquirable() {
+            return !acquired.get();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.agroal.runtime;
+
+public enum ConnectionCacheType {
+
+    /**
+     * Each thread keeps the last connection it used, and acquires it again without going through the pool.
+     * Only the threads managed by Quarkus, the Vert.x and the worker threads, keep a connection.
+     * This is the default.
+     */
+    THREAD_LOCAL,
+
+    /**
+     * The connections are cached in stripes shared by the threads, a thread using the connections of its own stripe
+     * before stealing the idle connections of the neighbouring stripes. This reduces the contention on the pool when
+     * many threads acquire connections concurrently, typically when there are many more threads than connections.
+     */
+    STRIPED
+}
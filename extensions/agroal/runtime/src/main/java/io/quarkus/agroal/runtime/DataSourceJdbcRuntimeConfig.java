@@ -40,6 +40,21 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem(defaultValue = "20")
     public int maxSize = 20;
 
+    /**
+     * The cache which serves the connections to the threads without going through the pool.
+     * <p>
+     * The {@code striped} cache reduces the contention on the pool when many threads acquire connections concurrently.
+     */
+    @ConfigItem(defaultValue = "thread-local")
+    public ConnectionCacheType connectionCache = ConnectionCacheType.THREAD_LOCAL;
+
+    /**
+     * The number of stripes of the {@code striped} connection cache, rounded up to a power of two.
+     * Defaults to the number of available processors.
+     */
+    @ConfigItem
+    public OptionalInt connectionCacheStripes = OptionalInt.empty();
+
     /**
      * The interval at which we validate idle connections in the background.
      * <p>
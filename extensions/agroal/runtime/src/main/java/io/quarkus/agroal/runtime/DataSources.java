@@ -26,6 +26,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -41,6 +42,7 @@
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig.DataSourceJdbcOuterNamedBuildTimeConfig;
 import io.quarkus.agroal.runtime.DataSourcesJdbcRuntimeConfig.DataSourceJdbcOuterNamedRuntimeConfig;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.AcquisitionTimer;
 import io.quarkus.arc.Arc;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -227,15 +229,33 @@ public AgroalDataSource doCreateDataSource(String dataSourceName) {
         if (dataSourceSupport.disableSslSupport) {
             agroalConnectionConfigurer.disableSslSupport(resolvedDbKind, dataSourceConfiguration);
         }
-        //we use a custom cache for two reasons:
-        //fast thread local cache should be faster
-        //and it prevents a thread local leak
+        boolean fastThreadLocalPresent;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            fastThreadLocalPresent = true;
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            fastThreadLocalPresent = false;
         }
+        ConnectionCache connectionCache;
+        if (dataSourceJdbcRuntimeConfig.connectionCache == ConnectionCacheType.STRIPED) {
+            connectionCache = new QuarkusStripedConnectionCache(dataSourceJdbcRuntimeConfig.connectionCacheStripes
+                    .orElse(Runtime.getRuntime().availableProcessors()));
+        } else if (fastThreadLocalPresent) {
+            //we use a custom cache for two reasons:
+            //fast thread local cache should be faster
+            //and it prevents a thread local leak
+            connectionCache = new QuarkusNettyConnectionCache();
+        } else {
+            connectionCache = new QuarkusSimpleConnectionCache();
+        }
+        AcquisitionTimer acquisitionTimer = null;
+        // the start of the acquisitions is kept in a FastThreadLocal, we do not want to leak a plain ThreadLocal
+        if (fastThreadLocalPresent && isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent)) {
+            // the acquisition times are recorded once the metrics are registered, see AgroalMetricsRecorder
+            acquisitionTimer = new AcquisitionTimer(connectionCache);
+            connectionCache = acquisitionTimer;
+        }
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -254,6 +274,9 @@ public AgroalDataSource doCreateDataSource(String dataSourceName) {
                         ? Default.Literal.INSTANCE
                         : new DataSource.DataSourceLiteral(dataSourceName))
                 .stream().collect(Collectors.toList());
+        if (acquisitionTimer != null) {
+            interceptorList.add(acquisitionTimer);
+        }
         if (!interceptorList.isEmpty()) {
             dataSource.setPoolInterceptors(interceptorList);
         }
@@ -261,6 +284,14 @@ public AgroalDataSource doCreateDataSource(String dataSourceName) {
         return dataSource;
     }
 
+    private boolean isMetricsEnabled(DataSourceJdbcBuildTimeConfig dataSourceJdbcBuildTimeConfig, boolean mpMetricsPresent) {
+        if (dataSourceJdbcBuildTimeConfig.enableMetrics.isPresent()) {
+            return dataSourceJdbcBuildTimeConfig.enableMetrics.get();
+        }
+        // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
+        return dataSourcesBuildTimeConfig.metricsEnabled && mpMetricsPresent;
+    }
+
     private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfigurationSupplier dataSourceConfiguration,
             AgroalConnectionPoolConfigurationSupplier poolConfiguration,
             AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration, Class<?> driver, String jdbcUrl,
@@ -299,12 +330,7 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         }
 
         // metrics
-        if (dataSourceJdbcBuildTimeConfig.enableMetrics.isPresent()) {
-            dataSourceConfiguration.metricsEnabled(dataSourceJdbcBuildTimeConfig.enableMetrics.get());
-        } else {
-            // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
-            dataSourceConfiguration.metricsEnabled(dataSourcesBuildTimeConfig.metricsEnabled && mpMetricsPresent);
-        }
+        dataSourceConfiguration.metricsEnabled(isMetricsEnabled(dataSourceJdbcBuildTimeConfig, mpMetricsPresent));
 
         // Authentication
         if (dataSourceRuntimeConfig.username.isPresent()) {
@@ -0,0 +1,59 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache shared by all the threads and partitioned in stripes, so that the threads do not contend on the same
+ * connections. A thread acquires the connection cached in its own stripe first, then tries to steal the idle connections
+ * of the neighbouring stripes before falling back to the pool.
+ * <p>
+ * The cached connections are also part of the pool, so replacing a cached connection does not leak it.
+ */
+class QuarkusStripedConnectionCache implements ConnectionCache {
+
+    // the number of neighbouring stripes a thread tries before falling back to the pool
+    private static final int STEAL_ATTEMPTS = 3;
+    // the slots are spaced out so that two stripes do not share a cache line
+    private static final int SPACING_SHIFT = 4;
+
+    private final int mask;
+    private volatile AtomicReferenceArray<Acquirable> slots;
+
+    QuarkusStripedConnectionCache(int stripes) {
+        // the number of stripes is rounded up to a power of two
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size << SPACING_SHIFT);
+    }
+
+    @Override
+    public Acquirable get() {
+        AtomicReferenceArray<Acquirable> slots = this.slots;
+        int stripe = stripe();
+        for (int i = 0; i <= STEAL_ATTEMPTS && i <= mask; i++) {
+            Acquirable acquirable = slots.get(((stripe + i) & mask) << SPACING_SHIFT);
+            if (acquirable != null && acquirable.acquire()) {
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        slots.set(stripe() << SPACING_SHIFT, acquirable);
+    }
+
+    @Override
+    public void reset() {
+        slots = new AtomicReferenceArray<>(slots.length());
+    }
+
+    private int stripe() {
+        // the thread ids are sequential, so the threads are spread evenly across the stripes
+        return (int) Thread.currentThread().getId() & mask;
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Measures the time spent acquiring the connections of a datasource.
+ * <p>
+ * The pool looks up its connection cache when an acquisition starts and calls the interceptors once the connection is
+ * acquired, so this class wraps the connection cache of the datasource to record the start of the acquisition, and is
+ * registered as a pool interceptor to record its end.
+ * <p>
+ * The start is kept in a {@link FastThreadLocal}, indexed in the thread local map shared by all the instances, so it is
+ * only used when Netty is present, like the {@code QuarkusNettyConnectionCache}.
+ */
+public class AcquisitionTimer implements ConnectionCache, AgroalPoolInterceptor {
+
+    private final ConnectionCache delegate;
+    private final FastThreadLocal<long[]> started = new FastThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+    private volatile MetricsFactory.TimeRecorder timeRecorder;
+
+    public AcquisitionTimer(ConnectionCache delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param timeRecorder the recorder of the acquisition times, set when the metrics of the datasource are registered
+     */
+    public void setTimeRecorder(MetricsFactory.TimeRecorder timeRecorder) {
+        this.timeRecorder = timeRecorder;
+    }
+
+    @Override
+    public Acquirable get() {
+        if (timeRecorder != null) {
+            started.get()[0] = System.nanoTime();
+        }
+        return delegate.get();
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        delegate.put(acquirable);
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        MetricsFactory.TimeRecorder timeRecorder = this.timeRecorder;
+        if (timeRecorder != null) {
+            long[] start = started.get();
+            // the start is not recorded when the connection does not go through the cache, e.g. when pooling is disabled
+            if (start[0] != 0) {
+                timeRecorder.update(System.nanoTime() - start[0], TimeUnit.NANOSECONDS);
+                start[0] = 0;
+            }
+        }
+    }
+}
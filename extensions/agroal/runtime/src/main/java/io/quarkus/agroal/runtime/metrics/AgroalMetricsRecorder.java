@@ -7,6 +7,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
@@ -32,7 +33,8 @@ public Consumer<MetricsFactory> registerDataSourceMetrics(String dataSourceName)
             @Override
             public void accept(MetricsFactory metricsFactory) {
                 String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
-                AgroalDataSourceMetrics metrics = getDataSource(dataSourceName).getMetrics();
+                AgroalDataSource dataSource = getDataSource(dataSourceName);
+                AgroalDataSourceMetrics metrics = dataSource.getMetrics();
 
                 metricsFactory.builder("agroal.active.count")
                         .description(
@@ -111,6 +113,15 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                for (AgroalPoolInterceptor interceptor : dataSource.getPoolInterceptors()) {
+                    if (interceptor instanceof AcquisitionTimer) {
+                        ((AcquisitionTimer) interceptor).setTimeRecorder(metricsFactory.builder("agroal.acquire.time")
+                                .description("Time spent acquiring a connection, including the time waiting for one.")
+                                .tag("datasource", tagValue)
+                                .buildTimer());
+                    }
+                }
             }
         };
     }
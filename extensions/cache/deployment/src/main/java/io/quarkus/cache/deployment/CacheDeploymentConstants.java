@@ -41,6 +41,10 @@ public class CacheDeploymentConstants {
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
 
+    // Redis client, the extension is optional.
+    public static final DotName REDIS_CODEC = DotName.createSimple("io.quarkus.redis.datasource.codecs.Codec");
+    public static final String REDIS_DEFAULT_CLIENT_NAME = "<default>";
+
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
 
@@ -12,7 +12,10 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.REDIS_CODEC;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.REDIS_DEFAULT_CLIENT_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.runtime.CacheConfig.REDIS_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static java.util.stream.Collectors.toList;
@@ -53,10 +56,13 @@
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
+import io.quarkus.cache.runtime.CacheBuildConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheManagerRecorder;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -64,7 +70,9 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.redis.client.spi.RequestedRedisClientBuildItem;
 
 class CacheProcessor {
 
@@ -251,6 +259,29 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                 .done();
     }
 
+    @BuildStep
+    void redisCacheSupport(CacheBuildConfig cacheBuildConfig, Capabilities capabilities,
+            CombinedIndexBuildItem combinedIndex, BuildProducer<RequestedRedisClientBuildItem> requestedRedisClients,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (!REDIS_CACHE_TYPE.equals(cacheBuildConfig.type)) {
+            return;
+        }
+        if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+            throw new DeploymentException(
+                    "The Redis cache type requires the quarkus-redis-client extension, please add it to the pom.xml file");
+        }
+        // Only the client used by the caches is created
+        requestedRedisClients.produce(
+                new RequestedRedisClientBuildItem(cacheBuildConfig.redis.clientName.orElse(REDIS_DEFAULT_CLIENT_NAME)));
+
+        // The value codecs are configured at runtime and instantiated reflectively
+        for (ClassInfo codec : combinedIndex.getIndex().getAllKnownImplementors(REDIS_CODEC)) {
+            if (!Modifier.isAbstract(codec.flags())) {
+                reflectiveClasses.produce(ReflectiveClassBuildItem.builder(codec.name().toString()).build());
+            }
+        }
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
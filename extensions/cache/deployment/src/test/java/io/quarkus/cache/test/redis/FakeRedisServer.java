@@ -0,0 +1,257 @@
+package io.quarkus.cache.test.redis;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A minimal Redis-compatible server speaking RESP2, supporting the commands used by the Redis caches, including the
+ * client-side caching in broadcasting mode with redirection and {@code NOLOOP}.
+ */
+class FakeRedisServer implements AutoCloseable {
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+    private final ServerSocket serverSocket;
+    private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+    private final Map<Long, Client> clients = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    final AtomicInteger getCommands = new AtomicInteger();
+
+    private FakeRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "fake-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    static FakeRedisServer start() {
+        try {
+            return new FakeRedisServer();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    byte[] get(String key) {
+        return data.get(key);
+    }
+
+    /**
+     * Simulates a write from another client.
+     */
+    void set(String key, byte[] value) {
+        set(key, value, null);
+    }
+
+    private void set(String key, byte[] value, Client writer) {
+        data.put(key, value);
+        invalidate(key, writer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Client client : clients.values()) {
+            client.socket.close();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Client client = new Client(ids.incrementAndGet(), socket);
+                clients.put(client.id, client);
+                Thread thread = new Thread(client::serve, "fake-redis-client-" + client.id);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void invalidate(String key, Client writer) {
+        for (Client tracking : clients.values()) {
+            if (tracking.redirect == 0 || (tracking.noloop && tracking == writer)) {
+                continue;
+            }
+            for (String prefix : tracking.prefixes) {
+                if (key.startsWith(prefix)) {
+                    Client target = clients.get(tracking.redirect);
+                    if (target != null) {
+                        target.write(array(bulk("message"), bulk(INVALIDATE_CHANNEL), array(bulk(key))));
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private String execute(Client client, List<byte[]> command) {
+        String name = string(command.get(0)).toUpperCase();
+        switch (name) {
+            case "HELLO":
+                return "-ERR unknown command `HELLO`, with args beginning with: \r\n";
+            case "PING":
+                return "+PONG\r\n";
+            case "SELECT":
+                return "+OK\r\n";
+            case "CLIENT":
+                String subcommand = string(command.get(1)).toUpperCase();
+                if (subcommand.equals("ID")) {
+                    return ":" + client.id + "\r\n";
+                }
+                if (subcommand.equals("TRACKING")) {
+                    for (int i = 3; i < command.size(); i++) {
+                        String arg = string(command.get(i)).toUpperCase();
+                        if (arg.equals("REDIRECT")) {
+                            client.redirect = Long.parseLong(string(command.get(++i)));
+                        } else if (arg.equals("PREFIX")) {
+                            client.prefixes.add(string(command.get(++i)));
+                        } else if (arg.equals("NOLOOP")) {
+                            client.noloop = true;
+                        }
+                    }
+                }
+                return "+OK\r\n";
+            case "SUBSCRIBE":
+                return array(bulk("subscribe"), bulk(string(command.get(1))), ":1\r\n");
+            case "GET":
+                getCommands.incrementAndGet();
+                byte[] value = data.get(string(command.get(1)));
+                return value == null ? "$-1\r\n" : bulk(value);
+            case "SET":
+                set(string(command.get(1)), command.get(2), client);
+                return "+OK\r\n";
+            case "DEL":
+            case "UNLINK":
+                int deleted = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    String key = string(command.get(i));
+                    if (data.remove(key) != null) {
+                        deleted++;
+                        invalidate(key, client);
+                    }
+                }
+                return ":" + deleted + "\r\n";
+            case "SCAN":
+                // only "prefix*" patterns are supported, and all the keys are returned at once
+                String pattern = string(command.get(3)).replace("\\", "");
+                String prefix = pattern.substring(0, pattern.length() - 1);
+                List<String> keys = new ArrayList<>();
+                for (String key : data.keySet()) {
+                    if (key.startsWith(prefix)) {
+                        keys.add(bulk(key));
+                    }
+                }
+                return array(bulk("0"), array(keys.toArray(new String[0])));
+            default:
+                return "-ERR unknown command '" + name + "'\r\n";
+        }
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String bulk(String value) {
+        return bulk(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String bulk(byte[] value) {
+        // ISO-8859-1 maps each byte to a single char, see Client.write()
+        return "$" + value.length + "\r\n" + new String(value, StandardCharsets.ISO_8859_1) + "\r\n";
+    }
+
+    private static String array(String... elements) {
+        return "*" + elements.length + "\r\n" + String.join("", elements);
+    }
+
+    private final class Client {
+
+        final long id;
+        final Socket socket;
+        final List<String> prefixes = new CopyOnWriteArrayList<>();
+        volatile long redirect;
+        volatile boolean noloop;
+
+        Client(long id, Socket socket) {
+            this.id = id;
+            this.socket = socket;
+        }
+
+        void serve() {
+            try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                while (true) {
+                    List<byte[]> command = readCommand(in);
+                    if (command == null) {
+                        break;
+                    }
+                    write(execute(this, command));
+                }
+            } catch (IOException e) {
+                // closed
+            } finally {
+                clients.remove(id);
+            }
+        }
+
+        synchronized void write(String reply) {
+            try {
+                OutputStream out = socket.getOutputStream();
+                out.write(reply.getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+
+        private List<byte[]> readCommand(InputStream in) throws IOException {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            int count = Integer.parseInt(header.substring(1));
+            List<byte[]> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = Integer.parseInt(readLine(in).substring(1));
+                byte[] arg = in.readNBytes(length);
+                in.readNBytes(2);
+                command.add(arg);
+            }
+            return command;
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read();
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            return null;
+        }
+    }
+}
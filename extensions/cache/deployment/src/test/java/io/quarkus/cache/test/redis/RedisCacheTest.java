@@ -0,0 +1,171 @@
+package io.quarkus.cache.test.redis;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the Redis caches against a stand-in Redis server: the local entries are served without Redis round trips and they are
+ * evicted when the Redis keys are modified by another client.
+ */
+public class RedisCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String PREFIX = "cache:" + CACHE_NAME + ":";
+    private static final String KEYS_CACHE_NAME = "keys-cache";
+
+    static final FakeRedisServer SERVER = FakeRedisServer.start();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, FakeRedisServer.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.redis.hosts", "redis://localhost:" + SERVER.port())
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SERVER.close();
+    }
+
+    @Test
+    public void testLocalEntriesAreInvalidatedByRedis() throws Exception {
+        RedisCacheImpl cache = (RedisCacheImpl) cacheManager.getCache(CACHE_NAME).get();
+
+        assertEquals("value-1", cachedService.get("a"));
+        assertEquals(1L, cache.getMissCount());
+        await().pollInterval(20, TimeUnit.MILLISECONDS)
+                .until(() -> SERVER.get(PREFIX + "str:a") != null);
+
+        // the local entries are used once the invalidation messages are received
+        await().pollInterval(20, TimeUnit.MILLISECONDS)
+                .until(() -> "value-1".equals(cachedService.get("a")) && cache.getLocalHitCount() > 0);
+        int getCommands = SERVER.getCommands.get();
+        long localHits = cache.getLocalHitCount();
+        assertEquals("value-1", cachedService.get("a"));
+        assertEquals(getCommands, SERVER.getCommands.get());
+        assertEquals(localHits + 1, cache.getLocalHitCount());
+
+        // another application instance writes a new value
+        SERVER.set(PREFIX + "str:a", encode("other"));
+        await().pollInterval(20, TimeUnit.MILLISECONDS)
+                .until(() -> "other".equals(cachedService.get("a")));
+        assertEquals(1, cachedService.invocations.get());
+
+        // the values stored by this instance are not evicted by their own invalidation messages
+        localHits = cache.getLocalHitCount();
+        assertEquals("value-2", cachedService.get("c"));
+        getCommands = SERVER.getCommands.get();
+        assertEquals("value-2", cachedService.get("c"));
+        assertEquals(getCommands, SERVER.getCommands.get());
+        assertEquals(localHits + 1, cache.getLocalHitCount());
+
+        assertEquals("async-b", cachedService.getAsync("b").await().indefinitely());
+        assertEquals("async-b", cachedService.getAsync("b").await().indefinitely());
+        assertEquals(3, cachedService.invocations.get());
+
+        cachedService.invalidate("a");
+        assertNull(SERVER.get(PREFIX + "str:a"));
+        assertEquals("value-4", cachedService.get("a"));
+
+        cache.invalidateAll().await().indefinitely();
+        assertNull(SERVER.get(PREFIX + "str:a"));
+        assertNull(SERVER.get(PREFIX + "str:b"));
+    }
+
+    @Test
+    public void testDistinctKeysDoNotCollide() {
+        RedisCacheImpl cache = (RedisCacheImpl) cacheManager.getCache(KEYS_CACHE_NAME).get();
+        String prefix = "cache:" + KEYS_CACHE_NAME + ":";
+
+        assertEquals("a|b", get(cache, new CompositeCacheKey("a", "b")));
+        assertEquals("a, b", get(cache, new CompositeCacheKey("a, b")));
+        assertEquals("1", get(cache, "1"));
+        assertEquals("int 1", get(cache, 1));
+        // the values were computed, not read from the entries of the other keys
+        assertEquals("a|b", get(cache, new CompositeCacheKey("a", "b")));
+        assertEquals("int 1", get(cache, 1));
+
+        assertNotNull(SERVER.get(prefix + "composite:5:str:a5:str:b"));
+        assertNotNull(SERVER.get(prefix + "composite:8:str:a, b"));
+        assertNotNull(SERVER.get(prefix + "str:1"));
+        assertNotNull(SERVER.get(prefix + "int:1"));
+    }
+
+    private static String get(RedisCacheImpl cache, Object key) {
+        return cache.get(key, k -> {
+            if (k instanceof CompositeCacheKey) {
+                return Arrays.stream(((CompositeCacheKey) k).getKeyElements()).map(String::valueOf)
+                        .collect(Collectors.joining("|"));
+            }
+            return k instanceof Integer ? "int " + k : k.toString();
+        }).await().indefinitely();
+    }
+
+    private static byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // the first byte tells that the value is not null
+        bytes.write(1);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String get(String key) {
+            return "value-" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> getAsync(String key) {
+            invocations.incrementAndGet();
+            return Uni.createFrom().item("async-" + key);
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheResult(cacheName = KEYS_CACHE_NAME)
+        public String keys(String key) {
+            // declares the cache used programmatically by testDistinctKeysDoNotCollide
+            return key;
+        }
+    }
+}
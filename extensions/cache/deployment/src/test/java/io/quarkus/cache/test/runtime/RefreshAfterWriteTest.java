@@ -0,0 +1,127 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests that stale entries are served while they are recomputed in the background when {@code refresh-after-write} is set.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String SYNC_KEY = "sync-key";
+    private static final String ASYNC_KEY = "async-key";
+    private static final String PUT_KEY = "put-key";
+    private static final String REQUEST_KEY = "request-key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, RequestData.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testSyncRefresh() {
+        assertEquals("value-1", cachedService.sync(SYNC_KEY));
+        assertEquals("value-1", cachedService.sync(SYNC_KEY));
+        // the value is served until it becomes stale, then the stale value is served while it is recomputed
+        await().atMost(Duration.ofSeconds(5)).until(() -> cachedService.sync(SYNC_KEY), "value-2"::equals);
+        assertEquals(2, cachedService.syncInvocations.get());
+    }
+
+    @Test
+    public void testAsyncRefresh() {
+        assertEquals("async-1", cachedService.async(ASYNC_KEY).await().indefinitely());
+        await().atMost(Duration.ofSeconds(5)).until(() -> cachedService.async(ASYNC_KEY).await().indefinitely(),
+                "async-2"::equals);
+        assertEquals(2, cachedService.asyncInvocations.get());
+    }
+
+    @Test
+    public void testPutValueRefresh() {
+        cache.as(CaffeineCache.class).put(PUT_KEY, CompletableFuture.completedFuture("put"));
+        assertEquals("put", cachedService.put(PUT_KEY));
+        // the value which was put is refreshed like a loaded one
+        await().atMost(Duration.ofSeconds(5)).until(() -> cachedService.put(PUT_KEY), "put-1"::equals);
+        assertEquals(1, cachedService.putInvocations.get());
+    }
+
+    @Test
+    public void testRequestScopedRefresh() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals("request-1", cachedService.requestScoped(REQUEST_KEY));
+        } finally {
+            requestContext.terminate();
+        }
+        // the caller's request context is gone, the recomputation runs with a new one
+        await().atMost(Duration.ofSeconds(5)).until(() -> cachedService.requestScoped(REQUEST_KEY), "request-2"::equals);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @Inject
+        RequestData requestData;
+
+        final AtomicInteger syncInvocations = new AtomicInteger();
+        final AtomicInteger asyncInvocations = new AtomicInteger();
+        final AtomicInteger putInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String sync(String key) {
+            return "value-" + syncInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> async(String key) {
+            return Uni.createFrom().item(() -> "async-" + asyncInvocations.incrementAndGet());
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String put(String key) {
+            return "put-" + putInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String requestScoped(String key) {
+            return requestData.next();
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        public String next() {
+            return "request-" + INVOCATIONS.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache.runtime;
+
+import static io.quarkus.cache.runtime.CacheConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_AND_RUN_TIME_FIXED;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "cache", phase = BUILD_AND_RUN_TIME_FIXED)
+public class CacheBuildConfig {
+
+    /**
+     * Cache type. The {@code redis} type requires the {@code quarkus-redis-client} extension.
+     */
+    @ConfigItem(defaultValue = CAFFEINE_CACHE_TYPE)
+    public String type;
+
+    /**
+     * Redis configuration.
+     */
+    @ConfigItem
+    public RedisBuildConfig redis;
+
+    @ConfigGroup
+    public static class RedisBuildConfig {
+
+        /**
+         * The name of the Redis client used by the caches. If not set, the default Redis client is used. Only this client is
+         * created for the caches.
+         */
+        @ConfigItem
+        public Optional<String> clientName;
+    }
+}
@@ -18,6 +18,9 @@
 public class CacheConfig {
 
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
+    public static final String REDIS_CACHE_TYPE = "redis";
+
+    // The cache type and the Redis client are build time properties, see CacheBuildConfig
 
     /**
      * Whether or not the cache extension is enabled.
@@ -26,16 +29,16 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Caffeine configuration.
      */
-    @ConfigItem(defaultValue = CAFFEINE_CACHE_TYPE)
-    public String type;
+    @ConfigItem
+    public CaffeineConfig caffeine;
 
     /**
-     * Caffeine configuration.
+     * Redis configuration.
      */
     @ConfigItem
-    public CaffeineConfig caffeine;
+    public RedisConfig redis;
 
     @ConfigGroup
     public static class CaffeineConfig {
@@ -88,6 +91,15 @@ public static class CaffeineCacheConfig {
             @ConfigItem
             public Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be asynchronously recomputed once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The stale value is still returned while the
+             * new value is computed, and it is kept if the computation fails. The computation is triggered by the first
+             * access to the stale entry and runs on a worker thread.
+             */
+            @ConfigItem
+            public Optional<Duration> refreshAfterWrite;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -96,4 +108,77 @@ public static class CaffeineCacheConfig {
             public Optional<Boolean> metricsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * The maximum time a synchronous cache lookup waits for Redis. When it is exceeded, the lookup fails with a
+         * {@link io.smallrye.mutiny.TimeoutException}.
+         */
+        @ConfigItem(defaultValue = "10S")
+        public Duration timeout;
+
+        /**
+         * Default configuration applied to all Redis caches (lowest precedence)
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocSection
+        public RedisCacheConfig defaultConfig;
+
+        /**
+         * Additional configuration applied to a specific Redis cache (highest precedence)
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        @ConfigDocSection
+        public Map<String, RedisCacheConfig> cachesConfig;
+
+        @ConfigGroup
+        public static class RedisCacheConfig {
+
+            /**
+             * Prefix of the Redis keys of the cache entries. When it is set for a specific cache, it is used as is. Otherwise
+             * the keys of each cache are prefixed with the default prefix followed by {@code <cache-name>:}. The prefixes of
+             * the caches must not overlap. Defaults to {@code cache:<cache-name>:}.
+             */
+            @ConfigItem
+            public Optional<String> prefix;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            public Optional<Duration> expireAfterWrite;
+
+            /**
+             * Maximum number of entries kept in the local cache of each application instance, in front of Redis.
+             */
+            @ConfigItem
+            public OptionalLong localMaximumSize;
+
+            /**
+             * Specifies that each entry should be automatically removed from the local cache once a fixed duration has
+             * elapsed after the entry's creation. The local entries are also evicted when Redis reports that the
+             * corresponding keys were modified.
+             */
+            @ConfigItem
+            public Optional<Duration> localExpireAfterWrite;
+
+            /**
+             * The fully qualified name of the {@link io.quarkus.redis.datasource.codecs.Codec} implementation used to
+             * convert the cached values to and from bytes. The class must have a public no-args constructor. By default,
+             * the values are serialized with Java serialization and must implement {@link java.io.Serializable}.
+             */
+            @ConfigItem
+            public Optional<String> valueCodec;
+
+            /**
+             * Whether or not metrics are recorded if the application depends on the Micrometer extension.
+             */
+            @ConfigItem
+            public Optional<Boolean> metricsEnabled;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import static io.quarkus.cache.runtime.CacheConfig.CAFFEINE_CACHE_TYPE;
+import static io.quarkus.cache.runtime.CacheConfig.REDIS_CACHE_TYPE;
 
 import java.util.Set;
 import java.util.function.Supplier;
@@ -10,14 +11,17 @@
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheManagerBuilder;
 import io.quarkus.cache.runtime.noop.NoOpCacheManagerBuilder;
+import io.quarkus.cache.runtime.redis.RedisCacheManagerBuilder;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class CacheManagerRecorder {
 
+    private final CacheBuildConfig cacheBuildConfig;
     private final CacheConfig cacheConfig;
 
-    public CacheManagerRecorder(CacheConfig cacheConfig) {
+    public CacheManagerRecorder(CacheBuildConfig cacheBuildConfig, CacheConfig cacheConfig) {
+        this.cacheBuildConfig = cacheBuildConfig;
         this.cacheConfig = cacheConfig;
     }
 
@@ -28,7 +32,13 @@ public Supplier<CacheManager> get() {
                 return CaffeineCacheManagerBuilder.buildWithMicrometerMetrics(cacheNames, cacheConfig);
             }
         };
-        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier);
+        Supplier<Supplier<CacheManager>> redisCacheManagerSupplier = new Supplier<Supplier<CacheManager>>() {
+            @Override
+            public Supplier<CacheManager> get() {
+                return RedisCacheManagerBuilder.buildWithMicrometerMetrics(cacheNames, cacheBuildConfig, cacheConfig);
+            }
+        };
+        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier, redisCacheManagerSupplier);
     }
 
     public Supplier<CacheManager> getCacheManagerSupplierWithoutMetrics(Set<String> cacheNames) {
@@ -38,17 +48,26 @@ public Supplier<CacheManager> get() {
                 return CaffeineCacheManagerBuilder.buildWithoutMetrics(cacheNames, cacheConfig);
             }
         };
-        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier);
+        Supplier<Supplier<CacheManager>> redisCacheManagerSupplier = new Supplier<Supplier<CacheManager>>() {
+            @Override
+            public Supplier<CacheManager> get() {
+                return RedisCacheManagerBuilder.buildWithoutMetrics(cacheNames, cacheBuildConfig, cacheConfig);
+            }
+        };
+        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier, redisCacheManagerSupplier);
     }
 
     private Supplier<CacheManager> getCacheManagerSupplier(Set<String> cacheNames,
-            Supplier<Supplier<CacheManager>> caffeineCacheManagerSupplier) {
+            Supplier<Supplier<CacheManager>> caffeineCacheManagerSupplier,
+            Supplier<Supplier<CacheManager>> redisCacheManagerSupplier) {
         if (cacheConfig.enabled) {
-            switch (cacheConfig.type) {
+            switch (cacheBuildConfig.type) {
                 case CAFFEINE_CACHE_TYPE:
                     return caffeineCacheManagerSupplier.get();
+                case REDIS_CACHE_TYPE:
+                    return redisCacheManagerSupplier.get();
                 default:
-                    throw new DeploymentException("Unknown cache type: " + cacheConfig.type);
+                    throw new DeploymentException("Unknown cache type: " + cacheBuildConfig.type);
             }
         } else {
             return NoOpCacheManagerBuilder.build(cacheNames);
@@ -8,7 +8,10 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -22,11 +25,15 @@
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -41,6 +48,8 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // 0 if refresh-after-write is not configured
+    private final long refreshAfterWriteNanos;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -57,6 +66,7 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : 0;
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -105,7 +115,20 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to use Map.compute() in order to call statsCounter.recordHits(1)
                         // Map.compute() is more costly compared to Map.computeIfAbsent() because the remapping function is always called and the returned value is replaced
-                        return recordStats ? computeWithStats(key, valueLoader) : computeWithoutStats(key, valueLoader);
+                        CompletionStage<V> cacheValue = recordStats ? computeWithStats(key, valueLoader)
+                                : computeWithoutStats(key, valueLoader);
+                        refreshIfStale(key, cacheValue, new Supplier<Uni<Object>>() {
+                            @Override
+                            public Uni<Object> get() {
+                                return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                                    @Override
+                                    public Uni<? extends V> get() {
+                                        return valueLoader.apply(key);
+                                    }
+                                }).map(TO_CACHE_VALUE);
+                            }
+                        });
+                        return cacheValue;
                     }
                 }).map(fromCacheValue());
     }
@@ -150,7 +173,8 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        CompletableFuture<Object> newCacheValue = refreshAfterWriteNanos > 0 ? new RefreshableCacheValue()
+                : new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
@@ -165,10 +189,84 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            refreshIfStale(key, existingCacheValue, new Supplier<Uni<Object>>() {
+                @Override
+                public Uni<Object> get() {
+                    return Uni.createFrom().item(new Supplier<Object>() {
+                        @Override
+                        public Object get() {
+                            return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                        }
+                    });
+                }
+            });
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Starts the asynchronous recomputation of the value associated with {@code key} if {@code cacheValue} is older than the
+     * configured refresh-after-write duration. The stale value keeps being served until the recomputed value replaces it.
+     * At most one recomputation is running for a given cache value, and a failed recomputation leaves the stale value in
+     * the cache so that it is retried later.
+     * <p>
+     * The recomputation runs on a worker thread, with a new request context which is destroyed once the value is
+     * recomputed. The security identity and the Vert.x context of the caller are not propagated.
+     *
+     * @param key cache key
+     * @param cacheValue the current cache value
+     * @param recomputation supplies a lazy {@link Uni} emitting the new cache value
+     */
+    private void refreshIfStale(Object key, CompletionStage<?> cacheValue, Supplier<Uni<Object>> recomputation) {
+        if (!(cacheValue instanceof RefreshableCacheValue)) {
+            return;
+        }
+        RefreshableCacheValue current = (RefreshableCacheValue) cacheValue;
+        if (!current.isStale(refreshAfterWriteNanos) || !current.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        Uni<Object> newValue;
+        try {
+            newValue = recomputation.get();
+        } catch (Throwable t) {
+            current.refreshing.set(false);
+            LOGGER.debugf(t, "Unable to refresh entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            return;
+        }
+        Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+            @Override
+            public void run() {
+                // The caller's request context may be destroyed before the recomputation completes, a new one is used instead
+                ManagedContext requestContext = Arc.container().requestContext();
+                requestContext.activate();
+                ContextState state = requestContext.getState();
+                try {
+                    newValue.subscribe().with(new Consumer<Object>() {
+                        @Override
+                        public void accept(Object value) {
+                            requestContext.destroy(state);
+                            RefreshableCacheValue refreshed = new RefreshableCacheValue();
+                            refreshed.complete(value);
+                            // the entry may have been invalidated or replaced in the meantime
+                            cache.asMap().replace(key, current, refreshed);
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            requestContext.destroy(state);
+                            current.refreshing.set(false);
+                            LOGGER.debugf(failure, "Unable to refresh entry with key [%s] in cache [%s]", key,
+                                    cacheInfo.name);
+                        }
+                    });
+                } finally {
+                    requestContext.deactivate();
+                }
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -229,7 +327,8 @@ public Set<Object> keySet() {
 
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
-        cache.put(key, (CompletableFuture<Object>) valueFuture);
+        // the value is wrapped like the loaded ones so that it is refreshed too
+        cache.put(key, toStoredValue((CompletableFuture<Object>) valueFuture));
     }
 
     @Override
@@ -295,9 +394,9 @@ private <K, V> CompletionStage<V> computeWithStats(K key, Function<K, Uni<V>> va
                     public CompletableFuture<Object> apply(Object key, CompletableFuture<Object> value) {
                         if (value == null) {
                             statsCounter.recordMisses(1);
-                            return valueLoader.apply((K) key)
+                            return toStoredValue(valueLoader.apply((K) key)
                                     .map(TO_CACHE_VALUE)
-                                    .subscribeAsCompletionStage();
+                                    .subscribeAsCompletionStage());
                         } else {
                             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
                             statsCounter.recordHits(1);
@@ -313,13 +412,31 @@ private <K, V> CompletionStage<V> computeWithoutStats(K key, Function<K, Uni<V>>
                 new Function<Object, CompletableFuture<Object>>() {
                     @Override
                     public CompletableFuture<Object> apply(Object key) {
-                        return valueLoader.apply((K) key)
+                        return toStoredValue(valueLoader.apply((K) key)
                                 .map(TO_CACHE_VALUE)
-                                .subscribeAsCompletionStage();
+                                .subscribeAsCompletionStage());
                     }
                 });
     }
 
+    private CompletableFuture<Object> toStoredValue(CompletableFuture<Object> loadedValue) {
+        if (refreshAfterWriteNanos == 0) {
+            return loadedValue;
+        }
+        RefreshableCacheValue storedValue = new RefreshableCacheValue();
+        loadedValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                if (failure == null) {
+                    storedValue.complete(value);
+                } else {
+                    storedValue.completeExceptionally(failure);
+                }
+            }
+        });
+        return storedValue;
+    }
+
     @SuppressWarnings("unchecked")
     private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
@@ -341,4 +458,28 @@ public Object apply(Object value) {
         }
     };
 
+    /**
+     * A cache value which remembers when it was written, used when refresh-after-write is configured.
+     */
+    static final class RefreshableCacheValue extends CompletableFuture<Object> {
+
+        // stamped when the value completes, so that a slow computation does not make the value stale right away
+        volatile long created;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        @Override
+        public boolean complete(Object value) {
+            created = System.nanoTime();
+            return super.complete(value);
+        }
+
+        boolean isStale(long refreshAfterWriteNanos) {
+            if (!isDone() || isCompletedExceptionally() || System.nanoTime() - created < refreshAfterWriteNanos) {
+                return false;
+            }
+            // a failed synchronous computation is stored as a value until it is removed from the cache
+            return !(getNow(null) instanceof CaffeineComputationThrowable);
+        }
+    }
+
 }
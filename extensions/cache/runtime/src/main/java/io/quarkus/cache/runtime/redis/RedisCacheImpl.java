@@ -0,0 +1,477 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The entries are stored in Redis and the most recently used ones are also kept in a local Caffeine cache. The local entries
+ * are only used while Redis notifies this application instance of the modification of the keys of the cache, see
+ * {@link RedisInvalidationListener}.
+ */
+public class RedisCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte NON_NULL_VALUE = 1;
+    private static final int SCAN_COUNT = 1000;
+    private static final int EPOCH_STRIPES = 64;
+
+    private final RedisCacheInfo cacheInfo;
+    private final Redis redis;
+    private final Codec<Object> codec;
+    private final RedisInvalidationListener invalidationListener;
+    final Cache<String, LocalEntry> local;
+    // Incremented on each invalidation message of a key of the stripe, used to detect the values which were modified while they
+    // were read from Redis without discarding the values of the other keys
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+    // The lookups in progress on this application instance, so that the concurrent misses of a key call the value loader once
+    private final ConcurrentMap<String, CompletableFuture<Object>> lookups = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Redis redis, Codec<Object> codec,
+            RedisInvalidationListener invalidationListener) {
+        this.cacheInfo = cacheInfo;
+        this.redis = redis;
+        this.codec = codec;
+        this.invalidationListener = invalidationListener;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.localMaximumSize);
+        if (cacheInfo.localExpireAfterWrite != null) {
+            builder.expireAfterWrite(cacheInfo.localExpireAfterWrite);
+        }
+        this.local = builder.build();
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    public String getPrefix() {
+        return cacheInfo.prefix;
+    }
+
+    /**
+     * @return the number of lookups answered by the local cache
+     */
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    /**
+     * @return the number of lookups answered by Redis
+     */
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    /**
+     * @return the number of lookups which required the computation of the value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> get() {
+                Object cacheValue = getLocal(redisKey);
+                if (cacheValue != null) {
+                    return CompletableFuture.completedFuture(cacheValue);
+                }
+                CompletableFuture<Object> pending = lookups.get(redisKey);
+                if (pending != null) {
+                    return pending;
+                }
+                if (!BlockingOperationControl.isBlockingAllowed()) {
+                    return CompletableFuture.failedFuture(new BlockingOperationNotAllowedException("Cache [" + cacheInfo.name
+                            + "] cannot read a value from Redis synchronously on an IO thread, the method using the cache "
+                            + "must either run on a worker thread or return a Uni"));
+                }
+                CompletableFuture<Object> lookup = new CompletableFuture<>();
+                pending = lookups.putIfAbsent(redisKey, lookup);
+                if (pending != null) {
+                    return pending;
+                }
+                try {
+                    long epoch = epochs.get(stripe(redisKey));
+                    byte[] remoteValue = getRemote(redisKey).await().atMost(cacheInfo.timeout);
+                    if (remoteValue != null) {
+                        remoteHits.increment();
+                        cacheValue = decode(remoteValue);
+                        putLocal(redisKey, key, cacheValue, epoch);
+                    } else {
+                        misses.increment();
+                        // The value loader is called from the current thread, as with the Caffeine caches.
+                        cacheValue = NullValueConverter.toCacheValue(valueLoader.apply(key));
+                        store(redisKey, key, cacheValue);
+                    }
+                    lookup.complete(cacheValue);
+                } catch (Throwable t) {
+                    lookup.completeExceptionally(t);
+                } finally {
+                    lookups.remove(redisKey, lookup);
+                }
+                return lookup;
+            }
+        }).map(new Function<Object, V>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public V apply(Object cacheValue) {
+                return (V) NullValueConverter.fromCacheValue(cacheValue);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                Object cacheValue = getLocal(redisKey);
+                if (cacheValue != null) {
+                    return Uni.createFrom().item(cacheValue);
+                }
+                CompletableFuture<Object> lookup = new CompletableFuture<>();
+                CompletableFuture<Object> pending = lookups.putIfAbsent(redisKey, lookup);
+                if (pending != null) {
+                    return Uni.createFrom().completionStage(pending);
+                }
+                long epoch = epochs.get(stripe(redisKey));
+                Uni<Object> loaded = getRemote(redisKey).onItem().transformToUni(new Function<byte[], Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(byte[] remoteValue) {
+                        if (remoteValue != null) {
+                            remoteHits.increment();
+                            Object cacheValue = decode(remoteValue);
+                            putLocal(redisKey, key, cacheValue, epoch);
+                            return Uni.createFrom().item(cacheValue);
+                        }
+                        misses.increment();
+                        return valueLoader.apply(key).map(new Function<V, Object>() {
+                            @Override
+                            public Object apply(V value) {
+                                Object cacheValue = NullValueConverter.toCacheValue(value);
+                                store(redisKey, key, cacheValue);
+                                return cacheValue;
+                            }
+                        });
+                    }
+                });
+                // the concurrent lookups of the key wait for this one
+                loaded.subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object cacheValue) {
+                        lookups.remove(redisKey, lookup);
+                        lookup.complete(cacheValue);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        lookups.remove(redisKey, lookup);
+                        lookup.completeExceptionally(failure);
+                    }
+                });
+                return Uni.createFrom().completionStage(lookup);
+            }
+        }).map(new Function<Object, V>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public V apply(Object cacheValue) {
+                return (V) NullValueConverter.fromCacheValue(cacheValue);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        local.invalidate(redisKey);
+        return invalidationListener.write(Request.cmd(Command.DEL).arg(redisKey)).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        local.invalidateAll();
+        return deleteAll("0");
+    }
+
+    /**
+     * The predicate is only applied to the keys which are present in the local cache of this application instance, since the
+     * original keys of the entries stored in Redis are not known.
+     */
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        List<String> redisKeys = new ArrayList<>();
+        for (Map.Entry<String, LocalEntry> entry : local.asMap().entrySet()) {
+            if (predicate.test(entry.getValue().key)) {
+                redisKeys.add(entry.getKey());
+            }
+        }
+        if (redisKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        local.invalidateAll(redisKeys);
+        Request request = Request.cmd(Command.DEL);
+        for (String redisKey : redisKeys) {
+            request.arg(redisKey);
+        }
+        return invalidationListener.write(request).replaceWithVoid();
+    }
+
+    /**
+     * Called when Redis reports that {@code redisKey} was modified.
+     */
+    void evictLocal(String redisKey) {
+        epochs.incrementAndGet(stripe(redisKey));
+        local.invalidate(redisKey);
+    }
+
+    /**
+     * Called when the local entries can no longer be trusted, e.g. if the invalidation messages are not received anymore.
+     */
+    void evictAllLocal() {
+        for (int i = 0; i < EPOCH_STRIPES; i++) {
+            epochs.incrementAndGet(i);
+        }
+        local.invalidateAll();
+    }
+
+    private String redisKey(Object key) {
+        StringBuilder builder = new StringBuilder(cacheInfo.prefix);
+        appendKey(builder, key);
+        return builder.toString();
+    }
+
+    /**
+     * Appends a representation of the key which only depends on its type and value, so that distinct keys such as
+     * {@code 1} and {@code "1"}, or {@code CompositeCacheKey("a", "b")} and {@code CompositeCacheKey("a, b")}, never share the
+     * same Redis key.
+     */
+    private static void appendKey(StringBuilder builder, Object key) {
+        if (key instanceof String) {
+            builder.append("str:").append((String) key);
+        } else if (key instanceof CompositeCacheKey) {
+            builder.append("composite:");
+            for (Object element : ((CompositeCacheKey) key).getKeyElements()) {
+                // each element is prefixed with its length so that the elements cannot be split differently
+                String encoded;
+                if (element == null) {
+                    encoded = "null";
+                } else {
+                    StringBuilder elementBuilder = new StringBuilder();
+                    appendKey(elementBuilder, element);
+                    encoded = elementBuilder.toString();
+                }
+                builder.append(encoded.length()).append(':').append(encoded);
+            }
+        } else if (key instanceof DefaultCacheKey) {
+            // there is a single default key per cache
+            builder.append("default");
+        } else if (key instanceof Integer) {
+            builder.append("int:").append(key);
+        } else if (key instanceof Long) {
+            builder.append("long:").append(key);
+        } else if (key instanceof Short) {
+            builder.append("short:").append(key);
+        } else if (key instanceof Byte) {
+            builder.append("byte:").append(key);
+        } else if (key instanceof Double) {
+            builder.append("double:").append(key);
+        } else if (key instanceof Float) {
+            builder.append("float:").append(key);
+        } else if (key instanceof Boolean) {
+            builder.append("bool:").append(key);
+        } else if (key instanceof Character) {
+            builder.append("char:").append(key);
+        } else if (key instanceof Enum) {
+            Enum<?> constant = (Enum<?>) key;
+            builder.append("enum:").append(constant.getDeclaringClass().getName()).append(':').append(constant.name());
+        } else {
+            // UUID, BigDecimal, etc. and the application types, which must implement toString() consistently with equals()
+            builder.append(key.getClass().getName()).append(':').append(key);
+        }
+    }
+
+    private static int stripe(String redisKey) {
+        int hash = redisKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+
+    private Object getLocal(String redisKey) {
+        if (invalidationListener.isActive()) {
+            LocalEntry entry = local.getIfPresent(redisKey);
+            if (entry != null) {
+                LOGGER.tracef("Key [%s] found in the local cache of cache [%s]", redisKey, cacheInfo.name);
+                localHits.increment();
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    private void putLocal(String redisKey, Object key, Object cacheValue, long epoch) {
+        // The value read from Redis is not kept locally if it may have been modified in the meantime
+        if (invalidationListener.isActive() && epochs.get(stripe(redisKey)) == epoch) {
+            local.put(redisKey, new LocalEntry(key, cacheValue));
+        }
+    }
+
+    private Uni<byte[]> getRemote(String redisKey) {
+        return redis.send(Request.cmd(Command.GET).arg(redisKey)).map(new Function<Response, byte[]>() {
+            @Override
+            public byte[] apply(Response response) {
+                return response == null ? null : response.toBytes();
+            }
+        });
+    }
+
+    private void store(String redisKey, Object key, Object cacheValue) {
+        byte[] encoded;
+        try {
+            encoded = encode(cacheValue);
+        } catch (RuntimeException e) {
+            LOGGER.warnf(e, "Unable to encode the value of key [%s] in cache [%s], the value is not cached", redisKey,
+                    cacheInfo.name);
+            return;
+        }
+        if (invalidationListener.isActive()) {
+            local.put(redisKey, new LocalEntry(key, cacheValue));
+        }
+        Request request = Request.cmd(Command.SET).arg(redisKey).arg(Buffer.buffer(encoded));
+        if (cacheInfo.expireAfterWrite != null) {
+            request.arg("PX").arg(cacheInfo.expireAfterWrite.toMillis());
+        }
+        invalidationListener.write(request).subscribe().with(new Consumer<Response>() {
+            @Override
+            public void accept(Response response) {
+                LOGGER.tracef("Key [%s] stored in cache [%s]", redisKey, cacheInfo.name);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.warnf(failure, "Unable to store key [%s] in cache [%s]", redisKey, cacheInfo.name);
+            }
+        });
+    }
+
+    private Uni<Void> deleteAll(String cursor) {
+        Request scan = Request.cmd(Command.SCAN).arg(cursor)
+                .arg("MATCH").arg(escapeGlob(cacheInfo.prefix) + "*")
+                .arg("COUNT").arg(SCAN_COUNT);
+        return redis.send(scan).onItem().transformToUni(new Function<Response, Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> apply(Response response) {
+                String next = response.get(0).toString();
+                Response keys = response.get(1);
+                Uni<Void> deleted;
+                if (keys.size() == 0) {
+                    deleted = Uni.createFrom().voidItem();
+                } else {
+                    Request unlink = Request.cmd(Command.UNLINK);
+                    for (int i = 0; i < keys.size(); i++) {
+                        unlink.arg(Buffer.buffer(keys.get(i).toBytes()));
+                    }
+                    deleted = invalidationListener.write(unlink).replaceWithVoid();
+                }
+                if ("0".equals(next)) {
+                    return deleted;
+                }
+                return deleted.chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return deleteAll(next);
+                    }
+                });
+            }
+        });
+    }
+
+    private byte[] encode(Object cacheValue) {
+        Object value = NullValueConverter.fromCacheValue(cacheValue);
+        if (value == null) {
+            return new byte[] { NULL_VALUE };
+        }
+        byte[] encoded = codec.encode(value);
+        byte[] result = new byte[encoded.length + 1];
+        result[0] = NON_NULL_VALUE;
+        System.arraycopy(encoded, 0, result, 1, encoded.length);
+        return result;
+    }
+
+    private Object decode(byte[] remoteValue) {
+        if (remoteValue.length == 0 || remoteValue[0] == NULL_VALUE) {
+            return NullValueConverter.toCacheValue(null);
+        }
+        byte[] encoded = new byte[remoteValue.length - 1];
+        System.arraycopy(remoteValue, 1, encoded, 0, encoded.length);
+        return NullValueConverter.toCacheValue(codec.decode(encoded));
+    }
+
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    static final class LocalEntry {
+
+        final Object key;
+        final Object value;
+
+        LocalEntry(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    public String prefix;
+
+    public Duration expireAfterWrite;
+
+    public Duration timeout;
+
+    public long localMaximumSize;
+
+    public Duration localExpireAfterWrite;
+
+    public String valueCodec;
+
+    public boolean metricsEnabled;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
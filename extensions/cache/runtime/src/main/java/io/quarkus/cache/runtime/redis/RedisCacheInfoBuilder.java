@@ -0,0 +1,74 @@
+package io.quarkus.cache.runtime.redis;
+
+import static io.quarkus.cache.runtime.CacheConfig.RedisConfig.RedisCacheConfig;
+
+import java.util.Collections;
+import java.util.Set;
+
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.HashSetFactory;
+
+public class RedisCacheInfoBuilder {
+
+    static final String DEFAULT_PREFIX = "cache:";
+    static final long DEFAULT_LOCAL_MAXIMUM_SIZE = 10_000L;
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            RedisCacheConfig defaultConfig = cacheConfig.redis.defaultConfig;
+
+            Set<RedisCacheInfo> cacheInfos = HashSetFactory.<RedisCacheInfo> getInstance().apply(cacheNames.size());
+            for (String cacheName : cacheNames) {
+
+                RedisCacheInfo cacheInfo = new RedisCacheInfo();
+                cacheInfo.name = cacheName;
+                cacheInfo.timeout = cacheConfig.redis.timeout;
+
+                RedisCacheConfig namedCacheConfig = cacheConfig.redis.cachesConfig.get(cacheInfo.name);
+
+                if (namedCacheConfig != null && namedCacheConfig.prefix.isPresent()) {
+                    cacheInfo.prefix = namedCacheConfig.prefix.get();
+                } else {
+                    cacheInfo.prefix = defaultConfig.prefix.orElse(DEFAULT_PREFIX) + cacheName + ":";
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite.get();
+                } else if (defaultConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.expireAfterWrite = defaultConfig.expireAfterWrite.get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.localMaximumSize.isPresent()) {
+                    cacheInfo.localMaximumSize = namedCacheConfig.localMaximumSize.getAsLong();
+                } else if (defaultConfig.localMaximumSize.isPresent()) {
+                    cacheInfo.localMaximumSize = defaultConfig.localMaximumSize.getAsLong();
+                } else {
+                    cacheInfo.localMaximumSize = DEFAULT_LOCAL_MAXIMUM_SIZE;
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.localExpireAfterWrite.isPresent()) {
+                    cacheInfo.localExpireAfterWrite = namedCacheConfig.localExpireAfterWrite.get();
+                } else if (defaultConfig.localExpireAfterWrite.isPresent()) {
+                    cacheInfo.localExpireAfterWrite = defaultConfig.localExpireAfterWrite.get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.valueCodec.isPresent()) {
+                    cacheInfo.valueCodec = namedCacheConfig.valueCodec.get();
+                } else if (defaultConfig.valueCodec.isPresent()) {
+                    cacheInfo.valueCodec = defaultConfig.valueCodec.get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled.get();
+                } else if (defaultConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.metricsEnabled = defaultConfig.metricsEnabled.get();
+                }
+
+                cacheInfos.add(cacheInfo);
+            }
+            return cacheInfos;
+        }
+    }
+}
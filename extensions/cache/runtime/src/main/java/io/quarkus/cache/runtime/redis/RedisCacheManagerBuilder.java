@@ -0,0 +1,113 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.CacheBuildConfig;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.redis.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.redis.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.redis.metrics.NoOpMetricsInitializer;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.vertx.mutiny.redis.client.Redis;
+
+public class RedisCacheManagerBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheManagerBuilder.class);
+
+    public static Supplier<CacheManager> buildWithMicrometerMetrics(Set<String> cacheNames,
+            CacheBuildConfig cacheBuildConfig, CacheConfig cacheConfig) {
+        return build(cacheNames, cacheBuildConfig, cacheConfig, new MicrometerMetricsInitializer());
+    }
+
+    public static Supplier<CacheManager> buildWithoutMetrics(Set<String> cacheNames, CacheBuildConfig cacheBuildConfig,
+            CacheConfig cacheConfig) {
+        return build(cacheNames, cacheBuildConfig, cacheConfig, new NoOpMetricsInitializer());
+    }
+
+    private static Supplier<CacheManager> build(Set<String> cacheNames, CacheBuildConfig cacheBuildConfig,
+            CacheConfig cacheConfig, MetricsInitializer metricsInitializer) {
+        Set<RedisCacheInfo> cacheInfos = RedisCacheInfoBuilder.build(cacheNames, cacheConfig);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    Redis redis = lookupRedis(cacheBuildConfig.redis.clientName);
+                    RedisInvalidationListener invalidationListener = new RedisInvalidationListener(redis);
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (RedisCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building Redis cache [%s] with [prefix=%s], [expireAfterWrite=%s], [localMaximumSize=%s], "
+                                            + "[localExpireAfterWrite=%s], [valueCodec=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.prefix, cacheInfo.expireAfterWrite, cacheInfo.localMaximumSize,
+                                    cacheInfo.localExpireAfterWrite, cacheInfo.valueCodec, cacheInfo.metricsEnabled);
+                        }
+                        RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, redis, createCodec(cacheInfo),
+                                invalidationListener);
+                        invalidationListener.register(cache);
+                        if (metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled) {
+                            metricsInitializer.recordMetrics(cache);
+                        } else if (cacheInfo.metricsEnabled) {
+                            LOGGER.warnf(
+                                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                                            + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                                            + "extension to the pom.xml file.",
+                                    cacheInfo.name);
+                        }
+                        caches.put(cacheInfo.name, cache);
+                    }
+                    // Start receiving the invalidation messages now that the prefixes of all the caches are known.
+                    invalidationListener.start();
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    /**
+     * The client is requested at build time, see {@code CacheProcessor}, so that the other Redis clients are not created.
+     */
+    private static Redis lookupRedis(Optional<String> clientName) {
+        InstanceHandle<Redis> client = clientName.isPresent()
+                ? Arc.container().instance(Redis.class, RedisClientName.Literal.of(clientName.get()))
+                : Arc.container().instance(Redis.class);
+        if (!client.isAvailable()) {
+            throw new DeploymentException("The Redis client used by the cache is not configured: "
+                    + clientName.map(name -> "'" + name + "'").orElse("default client"));
+        }
+        return client.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> createCodec(RedisCacheInfo cacheInfo) {
+        if (cacheInfo.valueCodec == null) {
+            return new SerializingCodec();
+        }
+        try {
+            Class<?> codecClass = Class.forName(cacheInfo.valueCodec, true, Thread.currentThread().getContextClassLoader());
+            return (Codec<Object>) codecClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new ConfigurationException("Unable to create the value codec '" + cacheInfo.valueCodec + "' of cache '"
+                    + cacheInfo.name + "'", e);
+        }
+    }
+}
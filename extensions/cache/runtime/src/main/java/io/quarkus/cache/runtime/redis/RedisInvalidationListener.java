@@ -0,0 +1,202 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Evicts the local entries of the Redis caches when the corresponding Redis keys are modified, using the client-side caching
+ * support of Redis in broadcasting mode.
+ * <p>
+ * Two dedicated connections are used: the first one is subscribed to the {@code __redis__:invalidate} channel and the second
+ * one enables the tracking of the prefixes of the caches, with the invalidation messages redirected to the first connection.
+ * The local entries are only used while both connections are open. If one of them is closed, all the local entries are
+ * evicted and the connections are reopened on the next cache access.
+ * <p>
+ * The commands modifying the cache entries are sent through the tracking connection, which is opened with {@code NOLOOP}, so
+ * that Redis does not notify this application instance of its own modifications: they would evict the entries it has just
+ * stored locally.
+ */
+public class RedisInvalidationListener {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisInvalidationListener.class);
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+    private static final long RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Redis redis;
+    private final List<RedisCacheImpl> caches = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean connecting = new AtomicBoolean();
+    private volatile boolean active;
+    private volatile long nextAttempt;
+    private volatile RedisConnection subscriber;
+    private volatile RedisConnection tracker;
+
+    public RedisInvalidationListener(Redis redis) {
+        this.redis = redis;
+        this.nextAttempt = System.nanoTime();
+    }
+
+    void register(RedisCacheImpl cache) {
+        caches.add(cache);
+    }
+
+    /**
+     * Starts receiving the invalidation messages of the registered caches.
+     */
+    void start() {
+        connect();
+    }
+
+    /**
+     * @return {@code true} if the invalidation messages are received, otherwise tries to start receiving them and returns
+     *         {@code false}
+     */
+    boolean isActive() {
+        if (!active) {
+            connect();
+        }
+        return active;
+    }
+
+    /**
+     * Sends a command modifying the Redis keys of the caches, through the tracking connection when it is open.
+     */
+    Uni<Response> write(Request request) {
+        RedisConnection connection = tracker;
+        if (active && connection != null) {
+            return connection.send(request);
+        }
+        return redis.send(request);
+    }
+
+    private void connect() {
+        if (System.nanoTime() - nextAttempt < 0 || !connecting.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect().onItem().transformToUni(new Function<RedisConnection, Uni<? extends Response>>() {
+            @Override
+            public Uni<? extends Response> apply(RedisConnection connection) {
+                subscriber = connection;
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response message) {
+                        onMessage(message);
+                    }
+                });
+                watch(connection);
+                return connection.send(Request.cmd(Command.CLIENT).arg("ID"));
+            }
+        }).onItem().transformToUni(new Function<Response, Uni<? extends Response>>() {
+            @Override
+            public Uni<? extends Response> apply(Response clientId) {
+                return subscriber.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATE_CHANNEL)).replaceWith(clientId);
+            }
+        }).onItem().transformToUni(new Function<Response, Uni<? extends Response>>() {
+            @Override
+            public Uni<? extends Response> apply(Response clientId) {
+                return redis.connect().onItem().transformToUni(new Function<RedisConnection, Uni<? extends Response>>() {
+                    @Override
+                    public Uni<? extends Response> apply(RedisConnection connection) {
+                        tracker = connection;
+                        watch(connection);
+                        Request tracking = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                .arg("REDIRECT").arg(clientId.toLong())
+                                .arg("BCAST")
+                                .arg("NOLOOP");
+                        for (RedisCacheImpl cache : caches) {
+                            tracking.arg("PREFIX").arg(cache.getPrefix());
+                        }
+                        return connection.send(tracking);
+                    }
+                });
+            }
+        }).subscribe().with(new Consumer<Response>() {
+            @Override
+            public void accept(Response ignored) {
+                LOGGER.debugf("Receiving the invalidation messages of %d Redis caches", caches.size());
+                active = true;
+                connecting.set(false);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.warnf(failure, "Unable to receive the Redis invalidation messages, the local cache is disabled");
+                disconnect();
+            }
+        });
+    }
+
+    private void watch(RedisConnection connection) {
+        connection.exceptionHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.debugf(failure, "Redis invalidation connection failure");
+                disconnect();
+            }
+        });
+        connection.endHandler(new Runnable() {
+            @Override
+            public void run() {
+                disconnect();
+            }
+        });
+    }
+
+    private void onMessage(Response message) {
+        // ["message", "__redis__:invalidate", keys], keys is null when the whole database was flushed
+        if (message == null || message.size() < 3 || !"message".equalsIgnoreCase(message.get(0).toString())
+                || !INVALIDATE_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null) {
+            for (RedisCacheImpl cache : caches) {
+                cache.evictAllLocal();
+            }
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i).toString();
+            for (RedisCacheImpl cache : caches) {
+                if (key.startsWith(cache.getPrefix())) {
+                    cache.evictLocal(key);
+                }
+            }
+        }
+    }
+
+    private synchronized void disconnect() {
+        if (!active && !connecting.get()) {
+            return;
+        }
+        active = false;
+        for (RedisCacheImpl cache : caches) {
+            cache.evictAllLocal();
+        }
+        close(subscriber);
+        close(tracker);
+        subscriber = null;
+        tracker = null;
+        nextAttempt = System.nanoTime() + RETRY_DELAY_NANOS;
+        connecting.set(false);
+    }
+
+    private static void close(RedisConnection connection) {
+        if (connection != null) {
+            connection.closeAndForget();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.redis.datasource.codecs.Codec;
+
+/**
+ * The default codec of the Redis caches, based on Java serialization. The classes are resolved with the context class loader
+ * so that the application classes can be deserialized.
+ */
+public class SerializingCodec implements Codec<Object> {
+
+    @Override
+    public byte[] encode(Object item) {
+        if (!(item instanceof Serializable)) {
+            throw new CacheException(new IllegalArgumentException(item.getClass().getName()
+                    + " does not implement java.io.Serializable, a value codec must be configured for this cache"));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(item);
+        } catch (IOException e) {
+            throw new CacheException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] item) {
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(item))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException(e);
+        }
+    }
+
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.quarkus.cache.runtime.redis.metrics;
+
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+
+public interface MetricsInitializer {
+
+    boolean metricsEnabled();
+
+    void recordMetrics(RedisCacheImpl cache);
+}
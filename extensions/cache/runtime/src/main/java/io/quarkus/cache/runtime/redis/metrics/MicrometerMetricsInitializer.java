@@ -0,0 +1,47 @@
+package io.quarkus.cache.runtime.redis.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+
+/**
+ * An instance of this class is created during the instantiation of the Redis caches when the application depends on a
+ * quarkus-micrometer-registry-* extension.
+ * <p>
+ * The {@code cache.gets} counters have the same meaning as the ones of the Caffeine caches. The {@code cache.local.gets} and
+ * {@code cache.remote.gets} counters give the hits and misses of the local cache and of Redis.
+ */
+public class MicrometerMetricsInitializer implements MetricsInitializer {
+
+    private static final Logger LOGGER = Logger.getLogger(MicrometerMetricsInitializer.class);
+
+    @Override
+    public boolean metricsEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordMetrics(RedisCacheImpl cache) {
+        LOGGER.tracef("Initializing Micrometer metrics for cache [%s]", cache.getName());
+        MeterRegistry registry = Metrics.globalRegistry;
+        register(registry, "cache.gets", "hit", cache, c -> c.getLocalHitCount() + c.getRemoteHitCount());
+        register(registry, "cache.gets", "miss", cache, c -> c.getMissCount());
+        register(registry, "cache.local.gets", "hit", cache, c -> c.getLocalHitCount());
+        register(registry, "cache.local.gets", "miss", cache, c -> c.getRemoteHitCount() + c.getMissCount());
+        register(registry, "cache.remote.gets", "hit", cache, c -> c.getRemoteHitCount());
+        register(registry, "cache.remote.gets", "miss", cache, c -> c.getMissCount());
+    }
+
+    private static void register(MeterRegistry registry, String name, String result, RedisCacheImpl cache,
+            ToDoubleFunction<RedisCacheImpl> count) {
+        FunctionCounter.builder(name, cache, count)
+                .tag("cache", cache.getName())
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.cache.runtime.redis.metrics;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+
+/**
+ * An instance of this class is created during the instantiation of the Redis caches when the application does not depend on
+ * any quarkus-micrometer-registry-* extension. It is required to make the micrometer-core dependency optional.
+ */
+public class NoOpMetricsInitializer implements MetricsInitializer {
+
+    private static final Logger LOGGER = Logger.getLogger(NoOpMetricsInitializer.class);
+
+    @Override
+    public boolean metricsEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordMetrics(RedisCacheImpl cache) {
+        LOGGER.tracef("Initializing no-op metrics for cache [%s]", cache.getName());
+        // Do nothing more.
+    }
+}
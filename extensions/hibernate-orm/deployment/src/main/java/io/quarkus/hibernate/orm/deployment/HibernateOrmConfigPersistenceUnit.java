@@ -353,10 +353,21 @@ public enum NullOrdering {
         @ConfigItem(defaultValue = "true")
         public boolean inClauseParameterPadding;
 
+        /**
+         * Whether the named queries are compiled in parallel when the persistence unit starts,
+         * instead of one after the other.
+         *
+         * As with the default startup check, the persistence unit fails to start if a named query is invalid.
+         * This reduces the startup time of the applications with many named queries.
+         */
+        @ConfigItem
+        public boolean parallelNamedQueryCompilation;
+
         public boolean isAnyPropertySet() {
             return queryPlanCacheMaxSize != DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE
                     || defaultNullOrdering != NullOrdering.NONE
-                    || !inClauseParameterPadding;
+                    || !inClauseParameterPadding
+                    || parallelNamedQueryCompilation;
         }
     }
 
@@ -410,8 +421,35 @@ public static class HibernateOrmConfigPersistenceUnitJdbc {
         @ConfigItem
         public OptionalInt statementBatchSize;
 
+        /**
+         * Whether to optimize the persistence unit for write throughput.
+         * <p>
+         * The inserts and updates are ordered, so that they are sent in JDBC batches of
+         * {@code statement-batch-size} statements (50 by default).
+         * <p>
+         * The inserts of the entities whose identifiers are generated by the database ({@code GenerationType.IDENTITY})
+         * can not be batched: they are reported when the application is built.
+         * <p>
+         * The identifier generation is not modified, see {@code pooled-lo-optimizer}.
+         */
+        @ConfigItem
+        public boolean throughputMode;
+
+        /**
+         * Whether the sequence based identifiers are generated with the pooled-lo optimizer, instead of the pooled optimizer.
+         * <p>
+         * Both optimizers call the sequence once per allocation size, but they interpret the sequence values differently:
+         * pooled-lo uses the value as the lowest identifier of the block, pooled as the highest one.
+         * Switching an existing schema from one optimizer to the other, in either direction, generates identifiers
+         * which overlap the ones already used, unless the sequences are moved forward by an allocation size first.
+         * Only enable this option for new schemas, and do not disable it afterwards.
+         */
+        @ConfigItem
+        public boolean pooledLoOptimizer;
+
         public boolean isAnyPropertySet() {
-            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent();
+            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent()
+                    || throughputMode || pooledLoOptimizer;
         }
     }
 
@@ -35,6 +35,7 @@
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Default;
 import javax.persistence.AttributeConverter;
+import javax.persistence.GenerationType;
 import javax.persistence.SharedCacheMode;
 import javax.persistence.ValidationMode;
 import javax.persistence.spi.PersistenceUnitTransactionType;
@@ -44,15 +45,18 @@
 
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.beanvalidation.BeanValidationIntegrator;
 import org.hibernate.id.SequenceMismatchStrategy;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
 import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.loader.BatchFetchStyle;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
@@ -116,6 +120,7 @@
 import io.quarkus.dev.console.DevConsoleManager;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
 import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.IdentifierQuotingStrategy;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
@@ -126,6 +131,7 @@
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.RequestScopedSessionHolder;
 import io.quarkus.hibernate.orm.runtime.TransactionSessions;
+import io.quarkus.hibernate.orm.runtime.boot.NamedQueryPrecompiler;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.boot.scan.QuarkusScanner;
 import io.quarkus.hibernate.orm.runtime.boot.xml.JAXBElementSubstitution;
@@ -167,6 +173,8 @@ public final class HibernateOrmProcessor {
 
     private static final Logger LOG = Logger.getLogger(HibernateOrmProcessor.class);
 
+    private static final int THROUGHPUT_MODE_STATEMENT_BATCH_SIZE = 50;
+
     private static final String INTEGRATOR_SERVICE_FILE = "META-INF/services/org.hibernate.integrator.spi.Integrator";
 
     @BuildStep
@@ -912,7 +920,7 @@ private void handleHibernateORMWithNoPersistenceXml(
 
         if (enableDefaultPersistenceUnit) {
             producePersistenceUnitDescriptorFromConfig(
-                    hibernateOrmConfig, PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME,
+                    hibernateOrmConfig, index.getIndex(), PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME,
                     hibernateOrmConfig.defaultPersistenceUnit,
                     modelClassesAndPackagesForDefaultPersistenceUnit,
                     jpaModel.getXmlMappings(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
@@ -935,7 +943,7 @@ private void handleHibernateORMWithNoPersistenceXml(
         for (Entry<String, HibernateOrmConfigPersistenceUnit> persistenceUnitEntry : hibernateOrmConfig.persistenceUnits
                 .entrySet()) {
             producePersistenceUnitDescriptorFromConfig(
-                    hibernateOrmConfig, persistenceUnitEntry.getKey(), persistenceUnitEntry.getValue(),
+                    hibernateOrmConfig, index.getIndex(), persistenceUnitEntry.getKey(), persistenceUnitEntry.getValue(),
                     modelClassesAndPackagesPerPersistencesUnits.getOrDefault(persistenceUnitEntry.getKey(),
                             Collections.emptySet()),
                     jpaModel.getXmlMappings(persistenceUnitEntry.getKey()),
@@ -952,6 +960,7 @@ private void handleHibernateORMWithNoPersistenceXml(
 
     private static void producePersistenceUnitDescriptorFromConfig(
             HibernateOrmConfig hibernateOrmConfig,
+            IndexView index,
             String persistenceUnitName,
             HibernateOrmConfigPersistenceUnit persistenceUnitConfig,
             Set<String> modelClassesAndPackages,
@@ -1092,6 +1101,12 @@ private static void producePersistenceUnitDescriptorFromConfig(
         descriptor.getProperties().setProperty(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING,
                 String.valueOf(persistenceUnitConfig.query.inClauseParameterPadding));
 
+        if (persistenceUnitConfig.query.parallelNamedQueryCompilation) {
+            // the named queries are checked by the NamedQueryPrecompiler instead
+            descriptor.getProperties().setProperty(AvailableSettings.QUERY_STARTUP_CHECKING, "false");
+            descriptor.getProperties().setProperty(NamedQueryPrecompiler.PARALLEL_COMPILATION, "true");
+        }
+
         // Disable sequence validations: they are reportedly slow, and people already get the same validation from normal schema validation
         descriptor.getProperties().put(AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY,
                 SequenceMismatchStrategy.NONE);
@@ -1104,9 +1119,32 @@ private static void producePersistenceUnitDescriptorFromConfig(
                 fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_FETCH_SIZE,
                         String.valueOf(fetchSize)));
 
-        persistenceUnitConfig.jdbc.statementBatchSize.ifPresent(
-                fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
-                        String.valueOf(fetchSize)));
+        if (persistenceUnitConfig.jdbc.throughputMode) {
+            int statementBatchSize = persistenceUnitConfig.jdbc.statementBatchSize
+                    .orElse(THROUGHPUT_MODE_STATEMENT_BATCH_SIZE);
+            descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                    String.valueOf(statementBatchSize));
+            // the statements are grouped by entity type, so that consecutive statements can be batched
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+
+            Set<String> identityGeneratedEntities = getIdentityGeneratedEntities(index, modelClassesAndPackages);
+            if (!identityGeneratedEntities.isEmpty()) {
+                LOG.warnf("The inserts of the entities %s of persistence unit '%s' will not be batched,"
+                        + " as their identifiers are generated by the database (GenerationType.IDENTITY)."
+                        + " Use GenerationType.SEQUENCE to batch their inserts.",
+                        identityGeneratedEntities, persistenceUnitName);
+            }
+        } else {
+            persistenceUnitConfig.jdbc.statementBatchSize.ifPresent(
+                    fetchSize -> descriptor.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                            String.valueOf(fetchSize)));
+        }
+        if (persistenceUnitConfig.jdbc.pooledLoOptimizer) {
+            // not part of the throughput mode: switching an existing schema between pooled and pooled-lo reuses identifiers
+            descriptor.getProperties().setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER,
+                    StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        }
 
         // Statistics
         if (hibernateOrmConfig.metricsEnabled
@@ -1171,6 +1209,14 @@ private static void producePersistenceUnitDescriptorFromConfig(
             for (Entry<String, String> entry : cacheConfigEntries.entrySet()) {
                 descriptor.getProperties().setProperty(entry.getKey(), entry.getValue());
             }
+            HibernateOrmConfigPersistenceUnitCache timestampsCacheConfig = persistenceUnitConfig.cache
+                    .get(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+            if (timestampsCacheConfig != null && timestampsCacheConfig.expiration.maxIdle.isPresent()) {
+                // a query result is only invalidated if the timestamp of the last update of its tables is still cached
+                LOG.warnf("The entries of the cache region '%s' of persistence unit '%s' expire:"
+                        + " cached query results may be returned after the tables they were read from have been updated",
+                        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, persistenceUnitName);
+            }
         } else {
             //Unless the global switch is explicitly set to off, in which case we disable all caching:
             Properties p = descriptor.getProperties();
@@ -1430,6 +1476,43 @@ private static boolean hasPackagesInQuarkusConfig(HibernateOrmConfig hibernateOr
         return false;
     }
 
+    /**
+     * @return the entities whose identifiers are generated by the database, for which Hibernate ORM does not batch the
+     *         inserts
+     */
+    private static Set<String> getIdentityGeneratedEntities(IndexView index, Set<String> modelClassesAndPackages) {
+        Set<DotName> identityGeneratedClasses = new HashSet<>();
+        for (AnnotationInstance generatedValue : index.getAnnotations(ClassNames.GENERATED_VALUE)) {
+            AnnotationValue strategy = generatedValue.value("strategy");
+            if (strategy == null || !GenerationType.IDENTITY.name().equals(strategy.asEnum())) {
+                continue;
+            }
+            AnnotationTarget target = generatedValue.target();
+            if (target.kind() == Kind.FIELD) {
+                identityGeneratedClasses.add(target.asField().declaringClass().name());
+            } else if (target.kind() == Kind.METHOD) {
+                identityGeneratedClasses.add(target.asMethod().declaringClass().name());
+            }
+        }
+        if (identityGeneratedClasses.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> identityGeneratedEntities = new TreeSet<>();
+        for (String modelClassName : modelClassesAndPackages) {
+            // the identifier may be declared by a mapped superclass
+            ClassInfo classInfo = index.getClassByName(DotName.createSimple(modelClassName));
+            while (classInfo != null) {
+                if (identityGeneratedClasses.contains(classInfo.name())) {
+                    identityGeneratedEntities.add(modelClassName);
+                    break;
+                }
+                classInfo = classInfo.superName() == null ? null : index.getClassByName(classInfo.superName());
+            }
+        }
+        return identityGeneratedEntities;
+    }
+
     private static Collection<AnnotationInstance> getPackageLevelPersistenceUnitAnnotations(IndexView index) {
         Collection<AnnotationInstance> persistenceUnitAnnotations = index
                 .getAnnotationsWithRepeatable(ClassNames.QUARKUS_PERSISTENCE_UNIT, index);
@@ -1,8 +1,11 @@
 package io.quarkus.hibernate.orm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import javax.inject.Inject;
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.Id;
@@ -13,6 +16,8 @@
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.cache.spi.RegionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
@@ -28,7 +33,7 @@ public class HibernateMetricsTestCase {
     @RegisterExtension
     static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
             .addAsResource("application-metrics-enabled.properties", "application.properties")
-            .addClasses(DummyEntity.class));
+            .addClasses(DummyEntity.class, CachedEntity.class));
 
     @Entity(name = "DummyEntity")
     static class DummyEntity {
@@ -45,6 +50,22 @@ public void setNumber(Long number) {
         }
     }
 
+    @Entity(name = "CachedEntity")
+    @Cacheable
+    static class CachedEntity {
+
+        @Id
+        private Long number;
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public void setNumber(Long number) {
+            this.number = number;
+        }
+    }
+
     @Inject
     EntityManager em;
 
@@ -73,11 +94,35 @@ public void testMetrics() {
                     new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
             assertEquals(1L, getCounterValueOrNull("hibernate.entities.inserts",
                     new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)));
+
+            em.createQuery("from DummyEntity e").setHint(QueryHints.HINT_CACHEABLE, true).getResultList();
+            assertEquals(1L, getCounterValueOrNull("hibernate.cache.query.region.puts",
+                    new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                    new Tag("region", RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)));
+            assertEquals(1L, getCounterValueOrNull("hibernate.cache.query.region.requests",
+                    new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                    new Tag("result", "miss"),
+                    new Tag("region", RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)));
         } finally {
             Arc.container().requestContext().terminate();
         }
     }
 
+    @Test
+    public void testDomainRegionIsNotReportedAsQueryRegion() {
+        String region = CachedEntity.class.getName();
+        assertNotNull(getCounterValueOrNull("hibernate.second.level.cache.puts",
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                new Tag("region", region)));
+        assertNull(getCounterValueOrNull("hibernate.cache.query.region.puts",
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                new Tag("region", region)));
+        assertNull(getCounterValueOrNull("hibernate.cache.query.region.requests",
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                new Tag("result", "miss"),
+                new Tag("region", region)));
+    }
+
     public Long getCounterValueOrNull(String metricName, Tag... tags) {
         Counter metric = metricRegistry.getCounters().get(new MetricID(metricName, tags));
         return metric != null ? metric.getCount() : null;
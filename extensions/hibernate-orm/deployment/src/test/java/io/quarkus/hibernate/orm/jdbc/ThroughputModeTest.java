@@ -0,0 +1,95 @@
+package io.quarkus.hibernate.orm.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.transaction.UserTransaction;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ThroughputModeTest {
+
+    private static final Tag PERSISTENCE_UNIT_TAG = new Tag("entityManagerFactory",
+            PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-metrics-enabled.properties", "application.properties")
+                    .addClasses(AssignedIdEntity.class, IdentityEntity.class))
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.throughput-mode", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "10")
+            // the entities with identifiers generated by the database are reported
+            .setLogRecordPredicate(record -> record.getMessage().contains("will not be batched"))
+            .assertLogRecords(records -> assertThat(records)
+                    .singleElement()
+                    .satisfies(record -> assertThat(record.getParameters())
+                            .anySatisfy(parameter -> assertThat(parameter.toString())
+                                    .contains(IdentityEntity.class.getName())
+                                    .doesNotContain(AssignedIdEntity.class.getName()))));
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testInsertsAreBatched() throws Exception {
+        // the batch size is 10, so the inserts are sent in 3 batches
+        transaction.begin();
+        for (int i = 0; i < 25; i++) {
+            em.persist(new AssignedIdEntity(i));
+        }
+        transaction.commit();
+
+        assertThat(getCounter("hibernate.jdbc.batches").getCount()).isEqualTo(3L);
+        assertThat(getCounter("hibernate.jdbc.batched.statements").getCount()).isEqualTo(25L);
+        assertThat(metricRegistry.getGauges().get(new MetricID("hibernate.jdbc.batch.size.max", PERSISTENCE_UNIT_TAG))
+                .getValue()).isEqualTo(10L);
+    }
+
+    private Counter getCounter(String metricName) {
+        return metricRegistry.getCounters().get(new MetricID(metricName, PERSISTENCE_UNIT_TAG));
+    }
+
+    @Entity
+    public static class AssignedIdEntity {
+
+        @Id
+        public Integer id;
+
+        public AssignedIdEntity() {
+        }
+
+        public AssignedIdEntity(int id) {
+            this.id = id;
+        }
+    }
+
+    @Entity
+    public static class IdentityEntity {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        public Long id;
+    }
+}
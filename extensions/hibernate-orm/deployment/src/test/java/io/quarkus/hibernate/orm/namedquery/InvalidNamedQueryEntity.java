@@ -0,0 +1,13 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQuery;
+
+@Entity
+@NamedQuery(name = "InvalidNamedQueryEntity.invalid", query = "SELECT e FROM InvalidNamedQueryEntity e WHERE e.missing = 1")
+public class InvalidNamedQueryEntity {
+
+    @Id
+    public Long id;
+}
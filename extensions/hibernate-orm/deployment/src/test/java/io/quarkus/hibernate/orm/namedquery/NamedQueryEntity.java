@@ -0,0 +1,28 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+
+@Entity
+@NamedQueries({
+        @NamedQuery(name = "NamedQueryEntity.findAll", query = "SELECT e FROM NamedQueryEntity e ORDER BY e.name"),
+        @NamedQuery(name = "NamedQueryEntity.findByName", query = "SELECT e FROM NamedQueryEntity e WHERE e.name = :name"),
+        @NamedQuery(name = "NamedQueryEntity.count", query = "SELECT COUNT(e) FROM NamedQueryEntity e")
+})
+public class NamedQueryEntity {
+
+    @Id
+    public Long id;
+
+    public String name;
+
+    public NamedQueryEntity() {
+    }
+
+    public NamedQueryEntity(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
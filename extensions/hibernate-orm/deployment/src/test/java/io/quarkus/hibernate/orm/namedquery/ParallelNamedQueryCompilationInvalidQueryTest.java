@@ -0,0 +1,25 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ParallelNamedQueryCompilationInvalidQueryTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(NamedQueryEntity.class, InvalidNamedQueryEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.query.parallel-named-query-compilation", "true")
+            .assertException(throwable -> assertThat(throwable)
+                    .hasStackTraceContaining("Errors in named queries")
+                    .hasStackTraceContaining("InvalidNamedQueryEntity.invalid"));
+
+    @Test
+    public void test() {
+        // Startup will fail
+    }
+}
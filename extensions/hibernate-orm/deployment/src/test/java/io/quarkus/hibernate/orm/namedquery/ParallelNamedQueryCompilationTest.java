@@ -0,0 +1,37 @@
+package io.quarkus.hibernate.orm.namedquery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ParallelNamedQueryCompilationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(NamedQueryEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.query.parallel-named-query-compilation", "true");
+
+    @Inject
+    EntityManager em;
+
+    @Test
+    @Transactional
+    public void testNamedQueries() {
+        em.persist(new NamedQueryEntity(1L, "b"));
+        em.persist(new NamedQueryEntity(2L, "a"));
+
+        assertThat(em.createNamedQuery("NamedQueryEntity.findAll", NamedQueryEntity.class).getResultList())
+                .extracting(e -> e.name).containsExactly("a", "b");
+        assertThat(em.createNamedQuery("NamedQueryEntity.findByName", NamedQueryEntity.class)
+                .setParameter("name", "b").getSingleResult().id).isEqualTo(2L);
+        assertThat(em.createNamedQuery("NamedQueryEntity.count", Long.class).getSingleResult()).isEqualTo(2L);
+    }
+}
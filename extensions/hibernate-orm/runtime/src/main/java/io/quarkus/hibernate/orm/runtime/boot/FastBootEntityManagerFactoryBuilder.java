@@ -72,7 +72,17 @@ public EntityManagerFactory build() {
         try {
             final SessionFactoryOptionsBuilder optionsBuilder = metadata.buildSessionFactoryOptionsBuilder();
             populate(persistenceUnitName, optionsBuilder, standardServiceRegistry);
-            return new SessionFactoryImpl(metadata, optionsBuilder.buildOptions(), HQLQueryPlan::new);
+            final SessionFactoryImpl sessionFactory = new SessionFactoryImpl(metadata, optionsBuilder.buildOptions(),
+                    HQLQueryPlan::new);
+            if (runtimeSettings.getBoolean(NamedQueryPrecompiler.PARALLEL_COMPILATION)) {
+                try {
+                    NamedQueryPrecompiler.compile(persistenceUnitName, sessionFactory, metadata);
+                } catch (RuntimeException e) {
+                    sessionFactory.close();
+                    throw e;
+                }
+            }
+            return sessionFactory;
         } catch (Exception e) {
             throw persistenceException("Unable to build Hibernate SessionFactory", e);
         }
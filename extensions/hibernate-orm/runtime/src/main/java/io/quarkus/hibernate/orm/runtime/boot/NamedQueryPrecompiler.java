@@ -0,0 +1,105 @@
+package io.quarkus.hibernate.orm.runtime.boot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logging.Logger;
+
+/**
+ * Compiles the named HQL queries of a persistence unit in parallel when the SessionFactory is built.
+ * <p>
+ * This replaces the startup check of Hibernate ORM ({@code hibernate.query.startup_check}), which compiles the named
+ * queries one after the other: the query plans are compiled concurrently into the query plan cache, then the standard
+ * check is run and finds them in the cache. As with the standard check, the SessionFactory fails to start if a named query
+ * is invalid.
+ */
+public final class NamedQueryPrecompiler {
+
+    private static final Logger LOG = Logger.getLogger(NamedQueryPrecompiler.class);
+
+    /**
+     * Whether the named queries are compiled in parallel, in which case the startup check of Hibernate ORM is disabled.
+     */
+    public static final String PARALLEL_COMPILATION = "quarkus.hibernate-orm.query.parallel-named-query-compilation";
+
+    private NamedQueryPrecompiler() {
+    }
+
+    public static void compile(String persistenceUnitName, SessionFactoryImplementor sessionFactory,
+            MetadataImplementor metadata) {
+        long start = System.nanoTime();
+        List<NamedQueryDefinition> queries = new ArrayList<>(metadata.getNamedQueryDefinitions());
+        QueryPlanCache queryPlanCache = sessionFactory.getQueryPlanCache();
+        int threads = Math.min(queries.size(), Runtime.getRuntime().availableProcessors());
+        if (threads > 1) {
+            compileInParallel(persistenceUnitName, queries, queryPlanCache, threads);
+        }
+
+        // the queries compiled above are found in the cache, the invalid ones are compiled again to report the errors
+        Map<String, HibernateException> errors = sessionFactory.getNamedQueryRepository().checkNamedQueries(queryPlanCache);
+        if (!errors.isEmpty()) {
+            StringBuilder failingQueries = new StringBuilder("Errors in named queries: ");
+            for (Map.Entry<String, HibernateException> entry : errors.entrySet()) {
+                LOG.errorf(entry.getValue(), "Error in named query: %s", entry.getKey());
+                failingQueries.append(System.lineSeparator()).append(entry.getKey()).append(" failed because of: ")
+                        .append(entry.getValue());
+            }
+            throw new HibernateException(failingQueries.toString());
+        }
+        LOG.debugf("Compiled %d named queries of persistence unit %s in %d ms", queries.size(), persistenceUnitName,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void compileInParallel(String persistenceUnitName, List<NamedQueryDefinition> queries,
+            QueryPlanCache queryPlanCache, int threads) {
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable,
+                    "hibernate-orm-named-queries-" + persistenceUnitName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(tccl);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(queries.size());
+            for (NamedQueryDefinition query : queries) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        try {
+                            queryPlanCache.getHQLQueryPlan(query.getQueryString(), false, Collections.emptyMap());
+                        } catch (HibernateException e) {
+                            // reported by the startup check
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the remaining queries are compiled by the startup check
+            LOG.debugf(e.getCause(), "Failed to compile the named queries of persistence unit %s in parallel",
+                    persistenceUnitName);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -6,11 +6,14 @@
 import java.util.function.Function;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.service.QuarkusBatchBuilder;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -31,6 +34,11 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        BatchBuilder batchBuilder = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                                .getServiceRegistry().getService(BatchBuilder.class);
+                        if (batchBuilder instanceof QuarkusBatchBuilder) {
+                            registerBatchMetrics(metricsFactory, puName, (QuarkusBatchBuilder) batchBuilder);
+                        }
                     }
                 }
             }
@@ -103,6 +111,7 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                             "The number of entities/collections put in the second level cache",
                             puName, regionStatistics, CacheRegionStatistics::getPutCount,
                             "region", regionName);
+                    createElementCountGauge(metricsFactory, puName, regionStatistics, regionName);
                 });
 
         // Entity Information
@@ -180,6 +189,27 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
         createStatisticsCounter(metricsFactory, "hibernate.cache.query.puts",
                 "The number of cacheable queries put in cache",
                 puName, statistics, Statistics::getQueryCachePutCount);
+        // Only the query result regions already created are known, that is the default one and the ones used by named queries.
+        // The statistics of the domain data regions are returned by getQueryRegionStatistics too, they are reported above.
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .filter(regionName -> !this.hasDomainDataRegionStatistics(statistics, regionName)
+                        && statistics.getQueryRegionStatistics(regionName) != null)
+                .forEach(regionName -> {
+                    CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(regionName);
+                    createStatisticsCounter(metricsFactory, "hibernate.cache.query.region.requests",
+                            "The number of query cache requests made to the region (see result for hit or miss)",
+                            puName, regionStatistics, CacheRegionStatistics::getHitCount,
+                            "result", "hit", "region", regionName);
+                    createStatisticsCounter(metricsFactory, "hibernate.cache.query.region.requests",
+                            "The number of query cache requests made to the region (see result for hit or miss)",
+                            puName, regionStatistics, CacheRegionStatistics::getMissCount,
+                            "result", "miss", "region", regionName);
+                    createStatisticsCounter(metricsFactory, "hibernate.cache.query.region.puts",
+                            "The number of cacheable queries put in the region",
+                            puName, regionStatistics, CacheRegionStatistics::getPutCount,
+                            "region", regionName);
+                    createElementCountGauge(metricsFactory, puName, regionStatistics, regionName);
+                });
         createStatisticsCounter(metricsFactory, "hibernate.cache.query.plan",
                 "The number of query plan cache requests (see result for hit or miss)",
                 puName, statistics, Statistics::getQueryPlanCacheHitCount,
@@ -203,6 +233,25 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the JDBC batches actually executed
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param batchBuilder Batch builder measuring the batches of the persistence unit
+     */
+    void registerBatchMetrics(MetricsFactory metricsFactory, String puName, QuarkusBatchBuilder batchBuilder) {
+        createStatisticsCounter(metricsFactory, "hibernate.jdbc.batches",
+                "Number of JDBC batches executed",
+                puName, batchBuilder, QuarkusBatchBuilder::getBatchCount);
+        createStatisticsCounter(metricsFactory, "hibernate.jdbc.batched.statements",
+                "Number of statements executed in JDBC batches, the average batch size being this count divided by the number of batches",
+                puName, batchBuilder, QuarkusBatchBuilder::getBatchedStatementCount);
+        createBuilder(metricsFactory, "hibernate.jdbc.batch.size.max",
+                "Number of statements of the largest JDBC batch executed", puName)
+                .buildGauge(batchBuilder, QuarkusBatchBuilder::getMaxBatchSize);
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
@@ -210,6 +259,18 @@ <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricNam
                 .buildCounter(statistics, f);
     }
 
+    void createElementCountGauge(MetricsFactory metricsFactory, String puName, CacheRegionStatistics regionStatistics,
+            String regionName) {
+        if (regionStatistics.getElementCountInMemory() == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RESPONSE) {
+            // the region factory does not expose the size of its regions
+            return;
+        }
+        createBuilder(metricsFactory, "hibernate.second.level.cache.entries",
+                "The number of entries currently held in memory by the cache region",
+                puName, "region", regionName)
+                .buildGauge(regionStatistics, CacheRegionStatistics::getElementCountInMemory);
+    }
+
     void createTimeGauge(MetricsFactory metricsFactory, String metricName, String description,
             String puName, Statistics statistics, Function<Statistics, Long> f, String... tags) {
 
@@ -0,0 +1,131 @@
+package io.quarkus.hibernate.orm.runtime.service;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.jdbc.batch.internal.NonBatchingBatch;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+/**
+ * Measures the size of the JDBC batches actually executed, which can be smaller than the configured batch size,
+ * e.g. when the flushed entities are not ordered, or when their identifiers are generated by the database.
+ * <p>
+ * Only used when the statistics are enabled.
+ */
+public final class QuarkusBatchBuilder implements BatchBuilder {
+
+    private final BatchBuilder delegate;
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchedStatementCount = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    public QuarkusBatchBuilder(BatchBuilder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+        Batch batch = delegate.buildBatch(key, jdbcCoordinator);
+        if (batch instanceof NonBatchingBatch) {
+            // the statements are executed one by one
+            return batch;
+        }
+        return new MeasuredBatch(batch);
+    }
+
+    /**
+     * @return the number of JDBC batches executed
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * @return the number of statements executed in JDBC batches
+     */
+    public long getBatchedStatementCount() {
+        return batchedStatementCount.sum();
+    }
+
+    /**
+     * @return the number of statements of the largest JDBC batch executed
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    private void batchExecuted(int size) {
+        batchCount.increment();
+        batchedStatementCount.add(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    /**
+     * A batch is used by a single session, so its pending statements are not counted concurrently.
+     */
+    private final class MeasuredBatch implements Batch, BatchObserver {
+
+        private final Batch delegate;
+        private int pending;
+
+        MeasuredBatch(Batch delegate) {
+            this.delegate = delegate;
+            delegate.addObserver(this);
+        }
+
+        @Override
+        public BatchKey getKey() {
+            return delegate.getKey();
+        }
+
+        @Override
+        public void addObserver(BatchObserver observer) {
+            delegate.addObserver(observer);
+        }
+
+        @Override
+        public PreparedStatement getBatchStatement(String sql, boolean callable) {
+            return delegate.getBatchStatement(sql, callable);
+        }
+
+        @Override
+        public void addToBatch() {
+            // counted first, as the batch may be executed when the statement is added
+            pending++;
+            delegate.addToBatch();
+        }
+
+        @Override
+        public void execute() {
+            delegate.execute();
+        }
+
+        @Override
+        public void release() {
+            pending = 0;
+            delegate.release();
+        }
+
+        @Override
+        public void batchExplicitlyExecuted() {
+            executed();
+        }
+
+        @Override
+        public void batchImplicitlyExecuted() {
+            executed();
+        }
+
+        private void executed() {
+            if (pending > 0) {
+                batchExecuted(pending);
+                pending = 0;
+            }
+        }
+    }
+}
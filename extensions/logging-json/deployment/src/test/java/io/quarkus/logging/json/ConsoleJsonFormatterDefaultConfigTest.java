@@ -11,11 +11,15 @@
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
+import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.formatters.StructuredFormatter;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
 import io.quarkus.logging.json.runtime.JsonFormatter;
@@ -41,6 +45,28 @@ public void jsonFormatterDefaultConfigurationTest() {
         assertThat(jsonFormatter.getAdditionalFields().entrySet()).isEmpty();
     }
 
+    @Test
+    public void jsonFormatterCompactOutputTest() throws Exception {
+        ExtLogRecord record = new ExtLogRecord(Level.SEVERE, "Hello, \"World\"!\n\u0001",
+                ExtLogRecord.FormatStyle.NO_FORMAT, ConsoleJsonFormatterDefaultConfigTest.class.getName());
+        record.putMdc("request\tid", "42");
+        record.setThrown(new IllegalStateException("boom", new IllegalArgumentException("cause")));
+
+        // the compact output is written directly, the pretty printed one goes through JSON-P
+        JsonFormatter prettyPrintFormatter = new JsonFormatter();
+        prettyPrintFormatter.setPrettyPrint(true);
+        prettyPrintFormatter.setExceptionOutputType(StructuredFormatter.ExceptionOutputType.DETAILED);
+
+        String line = getJsonFormatter().format(record);
+        assertThat(line).doesNotContain("\n ").endsWith("}\n");
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode node = mapper.readTree(line);
+        assertThat(node).isEqualTo(mapper.readTree(prettyPrintFormatter.format(record)));
+        assertThat(node.get("message").asText()).isEqualTo("Hello, \"World\"!\n\u0001");
+        assertThat(node.get("mdc").get("request\tid").asText()).isEqualTo("42");
+        assertThat(node.get("exception").get("message").asText()).isEqualTo("boom");
+    }
+
     public static JsonFormatter getJsonFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
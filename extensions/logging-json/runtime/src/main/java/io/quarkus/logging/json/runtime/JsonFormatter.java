@@ -1,17 +1,29 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logmanager.ExtLogRecord;
 
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int MAX_CACHED_KEYS = 256;
+
     private Set<String> excludedKeys;
     private Map<String, AdditionalFieldConfig> additionalFields;
+    private AdditionalField[] resolvedAdditionalFields;
+    /**
+     * The quoted and escaped keys followed by a colon, the set of keys is bounded as they come from the configuration
+     */
+    private final ConcurrentMap<String, char[]> keyPrefixes = new ConcurrentHashMap<>();
 
     /**
      * Creates a new JSON formatter.
@@ -20,7 +32,7 @@ public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter
     public JsonFormatter() {
         super();
         this.excludedKeys = new HashSet<>();
-        this.additionalFields = new HashMap<>();
+        setAdditionalFields(new HashMap<>());
     }
 
     /**
@@ -33,7 +45,7 @@ public JsonFormatter() {
     public JsonFormatter(final String keyOverrides) {
         super(keyOverrides);
         this.excludedKeys = new HashSet<>();
-        this.additionalFields = new HashMap<>();
+        setAdditionalFields(new HashMap<>());
     }
 
     /**
@@ -49,7 +61,7 @@ public JsonFormatter(final String keyOverrides, final Set<String> excludedKeys,
             final Map<String, AdditionalFieldConfig> additionalFields) {
         super(keyOverrides);
         this.excludedKeys = excludedKeys;
-        this.additionalFields = additionalFields;
+        setAdditionalFields(additionalFields);
     }
 
     public Set<String> getExcludedKeys() {
@@ -65,32 +77,331 @@ public Map<String, AdditionalFieldConfig> getAdditionalFields() {
     }
 
     public void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
+        // the values are converted once, instead of for each record
+        AdditionalField[] resolved = new AdditionalField[additionalFields.size()];
+        int i = 0;
+        for (var entry : additionalFields.entrySet()) {
+            resolved[i++] = new AdditionalField(entry.getKey(), entry.getValue());
+        }
         this.additionalFields = additionalFields;
+        this.resolvedAdditionalFields = resolved;
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
-        Generator superGenerator = super.createGenerator(writer);
-        return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        if (isPrettyPrint()) {
+            Generator superGenerator = super.createGenerator(writer);
+            return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        }
+        // the compact output is written directly, without going through a JSON-P generator
+        return new CompactJsonGenerator(writer, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
-        for (var entry : this.additionalFields.entrySet()) {
-            switch (entry.getValue().type) {
+        for (AdditionalField field : this.resolvedAdditionalFields) {
+            switch (field.type) {
                 case STRING:
-                    generator.add(entry.getKey(), entry.getValue().value);
+                    generator.add(field.key, field.value);
+                    break;
+                case INT:
+                    generator.add(field.key, (int) field.numericValue);
                     break;
+                case LONG:
+                    generator.add(field.key, field.numericValue);
+                    break;
+            }
+        }
+    }
+
+    private char[] keyPrefix(String key) {
+        char[] prefix = keyPrefixes.get(key);
+        if (prefix == null) {
+            StringBuilder builder = new StringBuilder(key.length() + 3).append('"');
+            appendEscaped(builder, key);
+            prefix = builder.append("\":").toString().toCharArray();
+            if (keyPrefixes.size() < MAX_CACHED_KEYS) {
+                keyPrefixes.putIfAbsent(key, prefix);
+            }
+        }
+        return prefix;
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape = escape(c);
+            if (escape != null) {
+                builder.append(escape);
+            } else if (c < 0x20) {
+                builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    /**
+     * @return the short escape sequence of the character, or {@code null} if it has none
+     */
+    private static String escape(char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            default:
+                return null;
+        }
+    }
+
+    private static final class AdditionalField {
+        private final String key;
+        private final AdditionalFieldConfig.Type type;
+        private final String value;
+        private final long numericValue;
+
+        private AdditionalField(String key, AdditionalFieldConfig config) {
+            this.key = key;
+            this.type = config.type;
+            this.value = config.value;
+            switch (config.type) {
                 case INT:
-                    generator.add(entry.getKey(), Integer.valueOf(entry.getValue().value));
+                    this.numericValue = Integer.parseInt(config.value);
                     break;
                 case LONG:
-                    generator.add(entry.getKey(), Long.valueOf(entry.getValue().value));
+                    this.numericValue = Long.parseLong(config.value);
+                    break;
+                default:
+                    this.numericValue = 0;
                     break;
             }
         }
     }
 
+    /**
+     * Writes the record on a single line, with the same content as the JSON-P generator of the parent formatter but
+     * without its intermediate allocations: the keys are escaped once and cached, and the numbers are written without
+     * being converted to strings.
+     */
+    private final class CompactJsonGenerator implements Generator {
+        private final Writer writer;
+        private final Set<String> excludedKeys;
+        private final char[] digits = new char[20];
+        // the bit of a nesting level is set once a value has been written at that level, so that the next one is
+        // preceded by a comma
+        private long levelsWithValues;
+        private BitSet deepLevelsWithValues;
+        private int depth;
+
+        private CompactJsonGenerator(final Writer writer, final Set<String> excludedKeys) {
+            this.writer = writer;
+            this.excludedKeys = excludedKeys;
+        }
+
+        @Override
+        public Generator begin() throws Exception {
+            writer.write('{');
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final int value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writeNumber(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writeNumber(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final Map<String, ?> value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writer.write('{');
+                if (value != null) {
+                    boolean first = true;
+                    for (Map.Entry<String, ?> entry : value.entrySet()) {
+                        if (!first) {
+                            writer.write(',');
+                        }
+                        first = false;
+                        writeString(entry.getKey());
+                        writer.write(':');
+                        writeValue(entry.getValue());
+                    }
+                }
+                writer.write('}');
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final String value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writeString(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator startObject(final String key) throws Exception {
+            writeKey(key);
+            writer.write('{');
+            enterLevel();
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws Exception {
+            writer.write('}');
+            depth--;
+            return this;
+        }
+
+        @Override
+        public Generator startArray(final String key) throws Exception {
+            writeKey(key);
+            writer.write('[');
+            enterLevel();
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws Exception {
+            writer.write(']');
+            depth--;
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            writer.write('}');
+            writer.flush();
+            return this;
+        }
+
+        private void writeKey(final String key) throws IOException {
+            if (markValue()) {
+                writer.write(',');
+            }
+            if (key != null) {
+                writer.write(keyPrefix(key));
+            }
+        }
+
+        /**
+         * @return whether a value has already been written at the current level
+         */
+        private boolean markValue() {
+            if (depth < Long.SIZE) {
+                long bit = 1L << depth;
+                boolean hasValues = (levelsWithValues & bit) != 0;
+                levelsWithValues |= bit;
+                return hasValues;
+            }
+            if (deepLevelsWithValues == null) {
+                deepLevelsWithValues = new BitSet();
+            }
+            boolean hasValues = deepLevelsWithValues.get(depth);
+            deepLevelsWithValues.set(depth);
+            return hasValues;
+        }
+
+        private void enterLevel() {
+            depth++;
+            if (depth < Long.SIZE) {
+                levelsWithValues &= ~(1L << depth);
+            } else if (deepLevelsWithValues != null) {
+                deepLevelsWithValues.clear(depth);
+            }
+        }
+
+        private void writeValue(final Object value) throws IOException {
+            if (value == null || value instanceof String) {
+                writeString((String) value);
+            } else if (value instanceof Integer || value instanceof Long) {
+                writeNumber(((Number) value).longValue());
+            } else if (value instanceof Boolean) {
+                writer.write(value.toString());
+            } else {
+                writeString(value.toString());
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+                return;
+            }
+            writer.write('"');
+            int start = 0;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                if (i > start) {
+                    writer.write(value, start, i - start);
+                }
+                start = i + 1;
+                String escape = escape(c);
+                if (escape != null) {
+                    writer.write(escape);
+                } else {
+                    writer.write("\\u00");
+                    writer.write(HEX_DIGITS[c >> 4]);
+                    writer.write(HEX_DIGITS[c & 0xF]);
+                }
+            }
+            if (start < length) {
+                writer.write(value, start, length - start);
+            }
+            writer.write('"');
+        }
+
+        private void writeNumber(long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                writer.write(Long.toString(value));
+                return;
+            }
+            boolean negative = value < 0;
+            if (negative) {
+                value = -value;
+            }
+            int position = digits.length;
+            do {
+                digits[--position] = (char) ('0' + (value % 10));
+                value /= 10;
+            } while (value != 0);
+            if (negative) {
+                digits[--position] = '-';
+            }
+            writer.write(digits, position, digits.length - position);
+        }
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -8,6 +8,7 @@
 import javax.enterprise.inject.Typed;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -29,6 +30,12 @@ public void report(String name, long durationInNs, boolean succeeded) {
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportBatch(String name, int size, long durationInNs, boolean succeeded) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportBatch(name, size, durationInNs, succeeded);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -36,6 +43,8 @@ private class RedisMetrics implements ObservableRedisMetrics {
 
         private final Counter failureCounter;
         private final Timer timer;
+        private final DistributionSummary batchSize;
+        private final Timer batchTimer;
         private String name;
 
         private RedisMetrics(MeterRegistry registry, String name) {
@@ -57,6 +66,14 @@ private RedisMetrics(MeterRegistry registry, String name) {
                     .description("The duration of the operations (commands of batches")
                     .tags(tags)
                     .register(registry);
+            this.batchSize = DistributionSummary.builder("redis.batches.size")
+                    .description("The number of commands of the batches pipelined by the data source")
+                    .tags(tags)
+                    .register(registry);
+            this.batchTimer = Timer.builder("redis.batches.duration")
+                    .description("The duration of the round trips of the batches pipelined by the data source")
+                    .tags(tags)
+                    .register(registry);
         }
 
         @Override
@@ -69,5 +86,11 @@ public void report(String name, long durationInNs, boolean succeeded) {
             }
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
+
+        @Override
+        public void reportBatch(String name, int size, long durationInNs, boolean succeeded) {
+            batchSize.record(size);
+            batchTimer.record(durationInNs, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -5,6 +5,7 @@
 import static io.quarkus.redis.client.deployment.RedisClientProcessor.configuredClientNames;
 import static io.quarkus.redis.runtime.client.config.RedisConfig.DEFAULT_CLIENT_NAME;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +13,7 @@
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 
@@ -23,7 +25,10 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.redis.client.spi.RequestedRedisClientBuildItem;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.runtime.client.RedisClientRecorder;
@@ -35,6 +40,10 @@ public class RedisDatasourceProcessor {
             DotName.createSimple(RedisDataSource.class.getName()),
             DotName.createSimple(ReactiveRedisDataSource.class.getName()));
 
+    private static final List<DotName> PROTOBUF_MESSAGES = List.of(
+            DotName.createSimple("com.google.protobuf.GeneratedMessageV3"),
+            DotName.createSimple("com.google.protobuf.GeneratedMessageLite"));
+
     @BuildStep
     public void detectUsage(BuildProducer<RequestedRedisClientBuildItem> request,
             RedisBuildTimeConfig buildTimeConfig,
@@ -65,6 +74,21 @@ public void detectUsage(BuildProducer<RequestedRedisClientBuildItem> request,
         }
     }
 
+    @BuildStep
+    public void registerProtobufMessagesForReflection(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // The protobuf codec retrieves the parser of the messages using their static parser() method
+        List<String> messages = new ArrayList<>();
+        for (DotName base : PROTOBUF_MESSAGES) {
+            for (ClassInfo message : combinedIndex.getIndex().getAllKnownSubclasses(base)) {
+                messages.add(message.name().toString());
+            }
+        }
+        if (!messages.isEmpty()) {
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, messages.toArray(new String[0])));
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void init(RedisClientRecorder recorder,
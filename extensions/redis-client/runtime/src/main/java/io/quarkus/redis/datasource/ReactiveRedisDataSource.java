@@ -54,6 +54,21 @@ public interface ReactiveRedisDataSource {
      */
     Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> function);
 
+    /**
+     * Retrieves a {@link ReactiveRedisDataSource} pipelining the commands: the commands issued by the function are not
+     * sent one by one, but written together on a single connection without waiting for the previous responses, so that
+     * they cost a single round trip.
+     * <p>
+     * The commands are sent once the function has subscribed to all of them, for example when their {@code Uni} are
+     * combined with {@code Uni.combine()}. The commands issued later, when the responses are received, are pipelined
+     * again. Unlike in a transaction, the commands are not executed atomically, and each command produces its own result
+     * or failure.
+     *
+     * @param function the function receiving the pipelining data source and combining the results of the commands
+     * @return the item produced by the function
+     */
+    <T> Uni<T> withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Retrieves a {@link RedisDataSource} enqueuing commands in a Redis Transaction ({@code MULTI}).
      * Note that transaction acquires a single connection, and all the commands are enqueued in this connection.
@@ -28,6 +28,7 @@
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Response;
 
@@ -50,6 +51,16 @@ public interface RedisDataSource {
      */
     void withConnection(Consumer<RedisDataSource> consumer);
 
+    /**
+     * Retrieves a {@link ReactiveRedisDataSource} pipelining the commands, and waits for the item produced by the
+     * function. The commands are issued with the reactive API, so that they are not awaited one by one.
+     *
+     * @param function the function receiving the pipelining data source and combining the results of the commands
+     * @return the item produced by the function
+     * @see ReactiveRedisDataSource#withPipeline(Function)
+     */
+    <T> T withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Retrieves a {@link RedisDataSource} enqueuing commands in a Redis Transaction ({@code MULTI}).
      * Note that transaction acquires a single connection, and all the commands are enqueued in this connection.
@@ -1,9 +1,21 @@
 package io.quarkus.redis.datasource.codecs;
 
+import io.vertx.core.buffer.Buffer;
+
 public interface Codec<T> {
 
     byte[] encode(T item);
 
     T decode(byte[] item);
 
+    /**
+     * Decodes the item from the buffer of the Redis response.
+     * <p>
+     * The default implementation copies the content of the buffer into a byte array, implementations should override it
+     * to read the buffer directly when the payloads can be large.
+     */
+    default T decode(Buffer item) {
+        return decode(item.getBytes());
+    }
+
 }
@@ -1,12 +1,19 @@
 package io.quarkus.redis.datasource.codecs;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 
 public class Codecs {
 
+    private static final String PROTOBUF_MESSAGE = "com.google.protobuf.MessageLite";
+
     private Codecs() {
         // Avoid direct instantiation
     }
@@ -25,10 +32,25 @@ public static <T> Codec<T> getDefaultCodecFor(Class<T> clazz) {
         if (clazz.equals(byte[].class)) {
             return (Codec<T>) ByteArrayCodec.INSTANCE;
         }
+        if (ByteBuffer.class.isAssignableFrom(clazz)) {
+            return (Codec<T>) ByteBufferCodec.INSTANCE;
+        }
+        if (isProtobufMessage(clazz)) {
+            return new ProtobufCodec<>(clazz);
+        }
         // JSON by default
         return new JsonCodec<>(clazz);
     }
 
+    private static boolean isProtobufMessage(Class<?> clazz) {
+        // protobuf is an optional dependency
+        try {
+            return Class.forName(PROTOBUF_MESSAGE, false, clazz.getClassLoader()).isAssignableFrom(clazz);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     public static class JsonCodec<T> implements Codec<T> {
 
         private final Class<T> clazz;
@@ -46,6 +68,11 @@ public byte[] encode(T item) {
         public T decode(byte[] payload) {
             return Json.decodeValue(Buffer.buffer(payload), clazz);
         }
+
+        @Override
+        public T decode(Buffer payload) {
+            return Json.decodeValue(payload, clazz);
+        }
     }
 
     public static class StringCodec implements Codec<String> {
@@ -65,6 +92,11 @@ public byte[] encode(String item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String decode(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec<Double> {
@@ -136,4 +168,82 @@ public byte[] decode(byte[] item) {
         }
     }
 
+    /**
+     * Encodes the remaining bytes of the buffers. Heap buffers wrapping a whole array are encoded without copy, and the
+     * decoded buffers share the memory of the response.
+     */
+    public static class ByteBufferCodec implements Codec<ByteBuffer> {
+
+        public static ByteBufferCodec INSTANCE = new ByteBufferCodec();
+
+        private ByteBufferCodec() {
+            // Avoid direct instantiation;
+        }
+
+        @Override
+        public byte[] encode(ByteBuffer item) {
+            if (item == null) {
+                return null;
+            }
+            if (item.hasArray() && item.arrayOffset() == 0 && item.position() == 0
+                    && item.remaining() == item.array().length) {
+                return item.array();
+            }
+            byte[] bytes = new byte[item.remaining()];
+            item.duplicate().get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public ByteBuffer decode(byte[] item) {
+            return ByteBuffer.wrap(item);
+        }
+
+        @Override
+        public ByteBuffer decode(Buffer item) {
+            return item.getByteBuf().nioBuffer();
+        }
+    }
+
+    /**
+     * Encodes the protobuf messages with their binary format, used when protobuf is available.
+     */
+    public static class ProtobufCodec<T> implements Codec<T> {
+
+        private final Class<T> clazz;
+        private final Parser<?> parser;
+
+        public ProtobufCodec(Class<T> clazz) {
+            this.clazz = clazz;
+            try {
+                this.parser = (Parser<?>) clazz.getMethod("parser").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Unable to retrieve the parser of the protobuf message " + clazz, e);
+            }
+        }
+
+        @Override
+        public byte[] encode(T item) {
+            return ((MessageLite) item).toByteArray();
+        }
+
+        @Override
+        public T decode(byte[] item) {
+            try {
+                return clazz.cast(parser.parseFrom(item));
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalArgumentException("Unable to decode the protobuf message " + clazz, e);
+            }
+        }
+
+        @Override
+        public T decode(Buffer item) {
+            try {
+                return clazz.cast(parser.parseFrom(item.getByteBuf().nioBuffer()));
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalArgumentException("Unable to decode the protobuf message " + clazz, e);
+            }
+        }
+    }
+
 }
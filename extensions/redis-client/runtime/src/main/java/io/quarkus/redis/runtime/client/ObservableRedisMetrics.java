@@ -12,6 +12,20 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called by the data source after the execution of the commands it pipelined, either automatically or in a
+     * {@code withPipeline} block. Each command of the batch has also been reported by {@link #report(String, long, boolean)}.
+     *
+     * @param name the client name
+     * @param size the number of commands of the batch
+     * @param durationInNs the duration of the round trip, from the acquisition of the connection to the reception of the
+     *        last response, in ns
+     * @param succeeded whether all the commands of the batch succeeded
+     */
+    default void reportBatch(String name, int size, long durationInNs, boolean succeeded) {
+
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
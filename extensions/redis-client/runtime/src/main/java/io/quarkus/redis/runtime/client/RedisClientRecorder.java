@@ -17,9 +17,11 @@
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.runtime.client.config.BatchingConfig;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.CommandPipeline;
 import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -146,7 +148,12 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    Optional<BatchingConfig> batching = getConfigForName(config, name).map(c -> c.batching);
+                    CommandPipeline pipeline = new CommandPipeline(vertx, redis, name, metrics,
+                            batching.map(b -> b.maxSize).orElse(CommandPipeline.DEFAULT_MAX_SIZE),
+                            batching.flatMap(b -> b.window).orElse(Duration.ZERO));
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, pipeline,
+                            batching.map(b -> b.enabled).orElse(false));
                 });
             }
         };
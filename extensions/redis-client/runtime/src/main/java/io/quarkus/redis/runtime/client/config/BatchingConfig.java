@@ -0,0 +1,45 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class BatchingConfig {
+
+    /**
+     * Whether the commands issued concurrently with the Redis data source are automatically pipelined.
+     * <p>
+     * The commands issued during the same event loop task, or within the batching window if set, are written together
+     * on a single connection instead of each acquiring a connection from the pool, so that they cost a single round
+     * trip. The blocking commands, such as {@code BLPOP}, are never batched.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum time a command waits for the other commands of its batch.
+     * <p>
+     * If not set, only the commands issued during the same event loop task are batched, which does not delay them.
+     */
+    @ConfigItem
+    public Optional<Duration> window;
+
+    /**
+     * The maximum number of commands of a batch, a batch is sent as soon as it reaches this size.
+     * It applies to the automatic batching and to the {@code withPipeline} blocks.
+     */
+    @ConfigItem(defaultValue = "256")
+    public int maxSize;
+
+    @Override
+    public String toString() {
+        return "BatchingConfig{" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxSize=" + maxSize +
+                '}';
+    }
+}
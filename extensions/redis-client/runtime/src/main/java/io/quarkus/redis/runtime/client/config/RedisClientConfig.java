@@ -140,6 +140,12 @@ public class RedisClientConfig {
     @ConfigItem(defaultValue = "true")
     public boolean protocolNegotiation;
 
+    /**
+     * The automatic pipelining of the commands of the data source.
+     */
+    @ConfigItem
+    public BatchingConfig batching;
+
     /**
      * TCP config.
      */
@@ -174,6 +180,7 @@ public String toString() {
                 ", reconnectAttempts=" + reconnectAttempts +
                 ", reconnectInterval=" + reconnectInterval +
                 ", protocolNegotiation=" + protocolNegotiation +
+                ", batching=" + batching +
                 ", tcp=" + tcp +
                 ", tls=" + tls +
                 '}';
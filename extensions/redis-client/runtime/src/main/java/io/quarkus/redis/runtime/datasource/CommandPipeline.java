@@ -0,0 +1,191 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Sends the commands issued concurrently in batches: the commands of a batch are written one after the other on a single
+ * connection, without waiting for the responses of the previous commands, so that the whole batch costs a single round
+ * trip instead of one per command.
+ * <p>
+ * A batch is sent when it reaches the maximum size, when the batching window elapses or, if there is no window, once the
+ * current event loop task completes. Unlike {@link Redis#batch(List)}, an error reply only fails its own command.
+ */
+public class CommandPipeline {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * The commands which may hold the connection until a condition is met, they are never batched as they would delay
+     * the commands written after them
+     */
+    private static final Set<io.vertx.redis.client.Command> BLOCKING_COMMANDS = Set.of(
+            Command.BLPOP.getDelegate(), Command.BRPOP.getDelegate(), Command.BRPOPLPUSH.getDelegate(),
+            Command.BLMOVE.getDelegate(), AbstractListCommands.BLMPOP.getDelegate(),
+            Command.BZPOPMIN.getDelegate(), Command.BZPOPMAX.getDelegate(), AbstractSortedSetCommands.BZMPOP.getDelegate(),
+            Command.XREAD.getDelegate(), Command.XREADGROUP.getDelegate(), Command.WAIT.getDelegate(),
+            Command.SUBSCRIBE.getDelegate(), Command.PSUBSCRIBE.getDelegate(), Command.MONITOR.getDelegate());
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final String name;
+    private final ObservableRedisMetrics metrics;
+    private final int maxSize;
+    private final Duration window;
+
+    // guarded by this
+    private List<PendingCommand> pending;
+    private int holds;
+
+    /**
+     * @param name the name of the client, used to report the metrics
+     * @param metrics the metrics reporter, {@code null} if the metrics are disabled
+     * @param window the maximum time a command waits for the other commands of its batch, {@link Duration#ZERO} to
+     *        only batch the commands issued during the same event loop task
+     */
+    public CommandPipeline(Vertx vertx, Redis redis, String name, ObservableRedisMetrics metrics, int maxSize,
+            Duration window) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.name = name;
+        this.metrics = metrics == null ? ObservableRedisMetrics.NOOP : metrics;
+        this.maxSize = Math.max(1, maxSize);
+        this.window = window;
+    }
+
+    /**
+     * @return a pipeline with the same settings but its own batches, and no batching window
+     */
+    CommandPipeline newPipeline() {
+        return new CommandPipeline(vertx, redis, name, metrics, maxSize, Duration.ZERO);
+    }
+
+    public Uni<Response> send(Request request) {
+        if (BLOCKING_COMMANDS.contains(request.getDelegate().command())) {
+            return redis.send(request);
+        }
+        return Uni.createFrom().emitter(emitter -> enqueue(new PendingCommand(request, emitter)));
+    }
+
+    /**
+     * Prevents the batches from being sent, until {@link #release()} is called.
+     */
+    void hold() {
+        synchronized (this) {
+            holds++;
+        }
+    }
+
+    /**
+     * Sends the pending batch once the last hold is released.
+     */
+    void release() {
+        List<PendingCommand> batch = null;
+        synchronized (this) {
+            if (--holds == 0) {
+                batch = pending;
+                pending = null;
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    private void enqueue(PendingCommand command) {
+        List<PendingCommand> batch = null;
+        boolean schedule = false;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                schedule = holds == 0;
+            }
+            pending.add(command);
+            if (pending.size() >= maxSize) {
+                batch = pending;
+                pending = null;
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        } else if (schedule) {
+            if (window.isZero() || window.isNegative()) {
+                vertx.getDelegate().runOnContext(ignored -> flush());
+            } else {
+                vertx.getDelegate().setTimer(window.toMillis(), ignored -> flush());
+            }
+        }
+    }
+
+    private void flush() {
+        List<PendingCommand> batch;
+        synchronized (this) {
+            if (holds > 0) {
+                return;
+            }
+            batch = pending;
+            pending = null;
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    private void send(List<PendingCommand> batch) {
+        long begin = System.nanoTime();
+        redis.connect().subscribe().with(connection -> {
+            AtomicInteger remaining = new AtomicInteger(batch.size());
+            AtomicBoolean succeeded = new AtomicBoolean(true);
+            for (PendingCommand command : batch) {
+                connection.send(command.request).subscribe().with(
+                        response -> {
+                            completed(connection, batch.size(), begin, remaining, succeeded);
+                            command.emitter.complete(response);
+                        },
+                        failure -> {
+                            succeeded.set(false);
+                            completed(connection, batch.size(), begin, remaining, succeeded);
+                            command.emitter.fail(failure);
+                        });
+            }
+        }, failure -> {
+            metrics.reportBatch(name, batch.size(), System.nanoTime() - begin, false);
+            for (PendingCommand command : batch) {
+                command.emitter.fail(failure);
+            }
+        });
+    }
+
+    private void completed(RedisConnection connection, int size, long begin, AtomicInteger remaining,
+            AtomicBoolean succeeded) {
+        if (remaining.decrementAndGet() == 0) {
+            connection.closeAndForget();
+            metrics.reportBatch(name, size, System.nanoTime() - begin, succeeded.get());
+        }
+    }
+
+    private static final class PendingCommand {
+
+        final Request request;
+        final UniEmitter<? super Response> emitter;
+
+        PendingCommand(Request request, UniEmitter<? super Response> emitter) {
+            this.request = request;
+            this.emitter = emitter;
+        }
+    }
+}
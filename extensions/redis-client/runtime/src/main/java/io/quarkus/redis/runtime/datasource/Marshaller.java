@@ -3,6 +3,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.doesNotContainNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -74,9 +75,14 @@ Codec<?> codec(Class<?> clazz) {
         if (codec == null) {
             codec = DEFAULT_CODECS.get(clazz);
         }
+        if (codec == null && ByteBuffer.class.isAssignableFrom(clazz)) {
+            // the values are instances of the implementations of ByteBuffer
+            codec = Codecs.ByteBufferCodec.INSTANCE;
+        }
         return codec;
     }
 
+    @SuppressWarnings("unchecked")
     final <T> T decode(Class<T> clazz, Response r) {
         if (r == null) {
             return null;
@@ -84,6 +90,11 @@ final <T> T decode(Class<T> clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
+        if (r.type() == ResponseType.BULK) {
+            // the codec reads the buffer of the response, rather than a copy of its content
+            Codec<?> codec = codec(clazz);
+            return (T) codec.decode(r.getDelegate().toBuffer());
+        }
         return decode(clazz, r.toBytes());
     }
 
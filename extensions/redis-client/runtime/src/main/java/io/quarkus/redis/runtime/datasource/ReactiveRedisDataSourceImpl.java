@@ -5,6 +5,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -47,14 +48,29 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    private final CommandPipeline pipeline;
+    private final boolean autoBatching;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, new CommandPipeline(vertx, redis, null, null, CommandPipeline.DEFAULT_MAX_SIZE,
+                Duration.ZERO), false);
+    }
+
+    /**
+     * @param pipeline the pipeline used by {@link #withPipeline(Function)}
+     * @param autoBatching whether all the commands are sent through the pipeline
+     */
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, CommandPipeline pipeline,
+            boolean autoBatching) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
+        nonNull(pipeline, "pipeline");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = pipeline;
+        this.autoBatching = autoBatching;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -64,6 +80,16 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+        this.autoBatching = false;
+    }
+
+    private ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, CommandPipeline pipeline) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = null;
+        this.pipeline = pipeline;
+        this.autoBatching = true;
     }
 
     @Override
@@ -71,9 +97,33 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (autoBatching) {
+            return pipeline.send(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public <T> Uni<T> withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        nonNull(function, "function");
+        if (connection != null) {
+            // The commands sent on a single connection are already pipelined
+            return function.apply(this);
+        }
+        return Uni.createFrom().emitter(emitter -> {
+            CommandPipeline batch = pipeline.newPipeline();
+            // The commands issued while subscribing are sent together, the ones issued later, when a response is
+            // received, are sent at the end of the event loop task
+            batch.hold();
+            try {
+                function.apply(new ReactiveRedisDataSourceImpl(vertx, redis, batch))
+                        .subscribe().with(emitter::complete, emitter::fail);
+            } finally {
+                batch.release();
+            }
+        });
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
         nonNull(function, "function");
@@ -4,7 +4,6 @@
 
 import io.quarkus.redis.datasource.RedisCommandExtraArguments;
 import io.quarkus.redis.datasource.codecs.Codec;
-import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Request;
 
@@ -35,7 +34,8 @@ public RedisCommand put(Object x) {
         } else if (x instanceof Boolean) {
             this.request.arg((boolean) x);
         } else if (x instanceof byte[]) {
-            this.request.arg(Buffer.buffer((byte[]) x));
+            // the request keeps the array, wrapping it in a buffer would copy it twice
+            this.request.getDelegate().arg((byte[]) x);
         } else if (x instanceof RedisCommandExtraArguments) {
             putArgs((RedisCommandExtraArguments) x);
         } else if (x instanceof List) {
@@ -0,0 +1,56 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
+
+class CodecsTest {
+
+    @Test
+    void byteBuffer() {
+        Codec<ByteBuffer> codec = Codecs.getDefaultCodecFor(ByteBuffer.class);
+        assertThat(codec).isInstanceOf(Codecs.ByteBufferCodec.class);
+
+        byte[] array = "hello".getBytes(StandardCharsets.UTF_8);
+        // a buffer wrapping a whole array is encoded without copy
+        assertThat(codec.encode(ByteBuffer.wrap(array))).isSameAs(array);
+        // only the remaining bytes are encoded
+        assertThat(codec.encode(ByteBuffer.wrap(array, 1, 3))).isEqualTo("ell".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer direct = ByteBuffer.allocateDirect(5).put(array).flip();
+        assertThat(codec.encode(direct)).isEqualTo(array);
+        assertThat(direct.remaining()).isEqualTo(5);
+
+        assertThat(codec.decode(Buffer.buffer(array))).isEqualTo(ByteBuffer.wrap(array));
+    }
+
+    @Test
+    void protobuf() {
+        Codec<StringValue> codec = Codecs.getDefaultCodecFor(StringValue.class);
+        assertThat(codec).isInstanceOf(Codecs.ProtobufCodec.class);
+
+        StringValue message = StringValue.of("hello");
+        byte[] encoded = codec.encode(message);
+        assertThat(encoded).isEqualTo(message.toByteArray());
+        assertThat(codec.decode(encoded)).isEqualTo(message);
+        assertThat(codec.decode(Buffer.buffer(encoded))).isEqualTo(message);
+        assertThatThrownBy(() -> codec.decode(new byte[] { 42 })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeFromBuffer() {
+        Buffer buffer = Buffer.buffer("{\"firstname\":\"luke\",\"lastname\":\"skywalker\"}");
+        assertThat(Codecs.getDefaultCodecFor(Person.class).decode(buffer)).isEqualTo(Person.person1);
+        assertThat(Codecs.getDefaultCodecFor(String.class).decode(Buffer.buffer("hello"))).isEqualTo("hello");
+        assertThat(Codecs.getDefaultCodecFor(Integer.class).decode(Buffer.buffer("42"))).isEqualTo(42);
+    }
+}
@@ -0,0 +1,134 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.CommandPipeline;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class PipelineTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+        ObservableRedisMetrics metrics = new ObservableRedisMetrics() {
+            @Override
+            public void report(String name, long durationInNs, boolean succeeded) {
+            }
+
+            @Override
+            public void reportBatch(String name, int size, long durationInNs, boolean succeeded) {
+                batchSizes.add(size);
+            }
+        };
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api,
+                new CommandPipeline(vertx, redis, "test", metrics, 64, Duration.ZERO), false);
+    }
+
+    @AfterEach
+    void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    void pipeline() {
+        blocking.value(String.class).set("a", "1");
+        blocking.value(String.class).set("b", "2");
+        blocking.value(String.class).set("c", "3");
+
+        List<String> values = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, String> commands = ds.value(String.class);
+            return Uni.join().all(commands.get("a"), commands.get("b"), commands.get("c")).andFailFast();
+        }).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(values).containsExactly("1", "2", "3");
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    void pipelineWithTheBlockingDataSource() {
+        List<Long> values = blocking.withPipeline(ds -> {
+            ReactiveValueCommands<String, Long> commands = ds.value(Long.class);
+            List<Uni<Long>> increments = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                increments.add(commands.incr(key));
+            }
+            return Uni.join().all(increments).andFailFast();
+        });
+
+        assertThat(values).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void failureOfOneCommandOfThePipeline() {
+        blocking.value(String.class).set("a", "not a number");
+
+        List<Long> values = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, Long> commands = ds.value(Long.class);
+            return Uni.join().all(commands.incr("a").onFailure().recoverWithItem(-1L), commands.incr("b"))
+                    .andFailFast();
+        }).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(values).containsExactly(-1L, 1L);
+    }
+
+    @Test
+    void commandsIssuedAfterTheResponsesArePipelinedAgain() {
+        blocking.value(String.class).set("a", "b");
+
+        String value = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, String> commands = ds.value(String.class);
+            return commands.get("a").chain(commands::get);
+        }).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(value).isNull();
+        assertThat(batchSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    void batchesAreLimitedToTheMaximumSize() {
+        reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, Long> commands = ds.value(Long.class);
+            List<Uni<Long>> increments = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                increments.add(commands.incr(key));
+            }
+            return Uni.join().all(increments).andFailFast();
+        }).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(blocking.value(Long.class).get(key)).isEqualTo(100L);
+        assertThat(batchSizes).containsExactlyInAnyOrder(64, 36);
+    }
+
+    @Test
+    void autoBatching() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, redis, api,
+                new CommandPipeline(vertx, redis, "test", null, 64, Duration.ofMillis(10)), true);
+        ReactiveValueCommands<String, Long> commands = ds.value(Long.class);
+        List<Uni<Long>> increments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            increments.add(commands.incr(key));
+        }
+
+        List<Long> values = Uni.join().all(increments).andFailFast().await().atMost(Duration.ofSeconds(5));
+
+        assertThat(values).hasSize(50).doesNotHaveDuplicates();
+        assertThat(blocking.value(Long.class).get(key)).isEqualTo(50L);
+    }
+}
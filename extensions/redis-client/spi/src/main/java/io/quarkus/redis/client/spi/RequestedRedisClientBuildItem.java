@@ -1,4 +1,4 @@
-package io.quarkus.redis.client.deployment;
+package io.quarkus.redis.client.spi;
 
 import io.quarkus.builder.item.MultiBuildItem;
 
@@ -0,0 +1,380 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.SecureField;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+
+/**
+ * Generates a {@link GeneratedBeanSerializer} for the plain types handled by the resource methods, so that their instances
+ * are written field by field instead of going through the reflection based {@code BeanSerializer}. The base class takes
+ * care of the enclosing object, of the type information and of the unwrapping, the generated code only writes the
+ * properties.
+ * <p>
+ * Only the types whose JSON representation does not depend on the Jackson annotation introspection are supported: public
+ * concrete classes directly extending {@link Object}, without type parameters, known subclasses or Jackson annotations,
+ * and exposing at least one public field or getter. The properties which are not strings or primitives are delegated to
+ * the {@link SerializerProvider}, so the other types keep being serialized by Jackson itself.
+ */
+final class JacksonSerializerGenerator {
+
+    private static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+
+    private static final Set<DotName> UNSUPPORTED_ANNOTATIONS = Set.of(
+            DotName.createSimple(SecureField.class.getName()),
+            DotName.createSimple("java.beans.Transient"),
+            DotName.createSimple("kotlin.Metadata"));
+    private static final Set<String> SUPPORTED_JDK_INTERFACES = Set.of(
+            "java.io.Serializable", "java.lang.Cloneable", "java.lang.Comparable");
+
+    private static final MethodDescriptor SUPER_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            GeneratedBeanSerializer.class, Class.class, String[].class, boolean.class);
+    private static final FieldDescriptor NAMES = FieldDescriptor.of(GeneratedBeanSerializer.class, "names",
+            String[].class);
+    private static final MethodDescriptor WRITE_STRING_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStringField", void.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBooleanField", void.class, String.class, boolean.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_FIELD = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeField", void.class, String.class, Object.class, JsonGenerator.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Set<DotName> excludedTypes;
+
+    /**
+     * @param excludedTypes the types which must be left to Jackson, such as the targets of a mixin
+     */
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput, Set<DotName> excludedTypes) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.excludedTypes = excludedTypes;
+    }
+
+    /**
+     * Generates the serializers of the given types and of the types of their properties.
+     *
+     * @return the names of the generated serializers, keyed by the name of the class they serialize
+     */
+    Map<String, String> generate(Collection<Type> types) {
+        Deque<DotName> candidates = new ArrayDeque<>();
+        for (Type type : types) {
+            collectClassNames(type, candidates);
+        }
+        Set<DotName> visited = new HashSet<>();
+        Map<String, String> serializers = new HashMap<>();
+        while (!candidates.isEmpty()) {
+            DotName candidate = candidates.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+            ClassInfo classInfo = index.getClassByName(candidate);
+            if ((classInfo == null) || !isSupported(classInfo)) {
+                continue;
+            }
+            Map<String, Property> properties = properties(classInfo);
+            if (properties.isEmpty()) {
+                // Jackson fails on the empty beans by default, let it report the problem
+                continue;
+            }
+            for (Property property : properties.values()) {
+                collectClassNames(property.type(), candidates);
+            }
+            serializers.put(classInfo.name().toString(), generateSerializer(classInfo, properties));
+        }
+        return serializers;
+    }
+
+    private static void collectClassNames(Type type, Deque<DotName> result) {
+        switch (type.kind()) {
+            case CLASS:
+                result.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                // the wrappers such as Uni or List are never supported, but their type arguments may be
+                result.add(type.name());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectClassNames(argument, result);
+                }
+                break;
+            case ARRAY:
+                collectClassNames(type.asArrayType().component(), result);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isSupported(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)) {
+            return false;
+        }
+        if (!ResteasyReactiveDotNames.OBJECT.equals(classInfo.superName()) || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (classInfo.name().toString().startsWith("java.") || excludedTypes.contains(classInfo.name())) {
+            return false;
+        }
+        // a serializer registered for a class is also used for its subclasses
+        if (!index.getAllKnownSubclasses(classInfo.name()).isEmpty()) {
+            return false;
+        }
+        if (hasUnsupportedAnnotations(classInfo)) {
+            return false;
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!isSupportedInterface(interfaceName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupportedInterface(DotName interfaceName) {
+        String name = interfaceName.toString();
+        if (name.startsWith("java.")) {
+            // the collections, iterables and char sequences are not serialized as beans
+            return SUPPORTED_JDK_INTERFACES.contains(name);
+        }
+        if (name.startsWith(JACKSON_PACKAGE)) {
+            return false;
+        }
+        ClassInfo interfaceInfo = index.getClassByName(interfaceName);
+        if (interfaceInfo == null) {
+            return true;
+        }
+        if (hasUnsupportedAnnotations(interfaceInfo)) {
+            return false;
+        }
+        for (DotName superInterfaceName : interfaceInfo.interfaceNames()) {
+            if (!isSupportedInterface(superInterfaceName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasUnsupportedAnnotations(ClassInfo classInfo) {
+        for (DotName annotation : classInfo.annotationsMap().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE) || UNSUPPORTED_ANNOTATIONS.contains(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the properties the way Jackson does with its default visibility: the public fields first, then the public
+     * getters, a getter replacing the field of the same name.
+     */
+    private static Map<String, Property> properties(ClassInfo classInfo) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.unsortedFields()) {
+            short flags = field.flags();
+            if (Modifier.isPublic(flags) && !Modifier.isStatic(flags) && !Modifier.isTransient(flags)) {
+                properties.put(field.name(), new Property(field, null));
+            }
+        }
+        for (MethodInfo method : classInfo.unsortedMethods()) {
+            String name = getterPropertyName(method);
+            if (name != null) {
+                properties.put(name, new Property(null, method));
+            }
+        }
+        return properties;
+    }
+
+    private static String getterPropertyName(MethodInfo method) {
+        short flags = method.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || method.isSynthetic()
+                || method.parametersCount() > 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.startsWith("get") && name.length() > 3) {
+            return propertyName(name, 3);
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return propertyName(name, 2);
+        }
+        return null;
+    }
+
+    /**
+     * Lower cases the leading upper case characters, as Jackson does by default: {@code getURL} becomes {@code url}.
+     */
+    private static String propertyName(String getterName, int prefixLength) {
+        StringBuilder name = new StringBuilder(getterName.length() - prefixLength);
+        int i = prefixLength;
+        for (; i < getterName.length(); i++) {
+            char c = getterName.charAt(i);
+            char lowerCase = Character.toLowerCase(c);
+            if (c == lowerCase) {
+                break;
+            }
+            name.append(lowerCase);
+        }
+        return name.append(getterName, i, getterName.length()).toString();
+    }
+
+    private String generateSerializer(ClassInfo classInfo, Map<String, Property> properties) {
+        String className = classInfo.name().toString();
+        String serializerName = className + SERIALIZER_SUFFIX;
+        MethodDescriptor unwrappingConstructor = MethodDescriptor.ofConstructor(serializerName, String[].class);
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(GeneratedBeanSerializer.class)
+                .build()) {
+            // the constructor used by the module, writing the properties under their own names
+            try (MethodCreator constructor = classCreator.getMethodCreator(MethodDescriptor.ofConstructor(serializerName))) {
+                ResultHandle names = constructor.newArray(String.class, properties.size());
+                int i = 0;
+                for (String name : properties.keySet()) {
+                    constructor.writeArrayValue(names, i++, constructor.load(name));
+                }
+                constructor.invokeSpecialMethod(SUPER_CONSTRUCTOR, constructor.getThis(),
+                        constructor.loadClass(className), names, constructor.load(false));
+                constructor.returnValue(null);
+            }
+
+            // the constructor of the unwrapping serializers, used for the @JsonUnwrapped properties
+            try (MethodCreator constructor = classCreator.getMethodCreator(unwrappingConstructor)) {
+                constructor.invokeSpecialMethod(SUPER_CONSTRUCTOR, constructor.getThis(),
+                        constructor.loadClass(className), constructor.getMethodParam(0), constructor.load(true));
+                constructor.returnValue(null);
+            }
+
+            try (MethodCreator withUnwrappedNames = classCreator.getMethodCreator("withUnwrappedNames",
+                    GeneratedBeanSerializer.class, String[].class)) {
+                withUnwrappedNames.returnValue(
+                        withUnwrappedNames.newInstance(unwrappingConstructor, withUnwrappedNames.getMethodParam(0)));
+            }
+
+            try (MethodCreator serializeFields = classCreator.getMethodCreator("serializeFields", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class)) {
+                serializeFields.addException(IOException.class);
+                ResultHandle bean = serializeFields.checkCast(serializeFields.getMethodParam(0), className);
+                ResultHandle generator = serializeFields.getMethodParam(1);
+                ResultHandle provider = serializeFields.getMethodParam(2);
+                ResultHandle names = serializeFields.readInstanceField(NAMES, serializeFields.getThis());
+
+                int i = 0;
+                for (Property property : properties.values()) {
+                    ResultHandle fieldName = serializeFields.readArrayValue(names, i++);
+                    writeProperty(serializeFields, generator, provider, bean, fieldName, property);
+                }
+                serializeFields.returnValue(null);
+            }
+        }
+        return serializerName;
+    }
+
+    private static void writeProperty(MethodCreator serialize, ResultHandle generator, ResultHandle provider,
+            ResultHandle bean, ResultHandle fieldName, Property property) {
+        ResultHandle value = property.field != null
+                ? serialize.readInstanceField(FieldDescriptor.of(property.field), bean)
+                : serialize.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean);
+        Type type = property.type();
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    serialize.invokeVirtualMethod(WRITE_BOOLEAN_FIELD, generator, fieldName, value);
+                    return;
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                    Class<?> primitive = primitiveClass(type.asPrimitiveType().primitive());
+                    serialize.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumberField",
+                            void.class, String.class, primitive), generator, fieldName, value);
+                    return;
+                default:
+                    // the short, byte and char values are boxed and written by their standard serializers
+                    Class<?> boxed = boxedClass(type.asPrimitiveType().primitive());
+                    value = serialize.invokeStaticMethod(MethodDescriptor.ofMethod(boxed, "valueOf", boxed,
+                            primitiveClass(type.asPrimitiveType().primitive())), value);
+                    break;
+            }
+        } else if (type.name().equals(ResteasyReactiveDotNames.STRING)) {
+            serialize.invokeVirtualMethod(WRITE_STRING_FIELD, generator, fieldName, value);
+            return;
+        }
+        serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, fieldName, value, generator);
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            case SHORT:
+                return short.class;
+            case BYTE:
+                return byte.class;
+            case CHAR:
+                return char.class;
+            default:
+                return boolean.class;
+        }
+    }
+
+    private static Class<?> boxedClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case SHORT:
+                return Short.class;
+            case BYTE:
+                return Byte.class;
+            default:
+                return Character.class;
+        }
+    }
+
+    private static final class Property {
+
+        final FieldInfo field;
+        final MethodInfo getter;
+
+        Property(FieldInfo field, MethodInfo getter) {
+            this.field = field;
+            this.getter = getter;
+        }
+
+        Type type() {
+            return field != null ? field.type() : getter.returnType();
+        }
+    }
+}
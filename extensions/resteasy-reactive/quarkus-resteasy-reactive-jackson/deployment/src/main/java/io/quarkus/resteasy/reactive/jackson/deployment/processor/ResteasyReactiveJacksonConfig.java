@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If set to {@code true}, a Jackson serializer is generated at build time for the plain classes used as the parameters
+     * and return types of the resource methods, and for the classes of their properties, so that they are serialized
+     * without reflection.
+     * <p>
+     * The classes using Jackson annotations, the classes extending another class and the targets of a {@code JacksonMixin}
+     * are left to Jackson. The generated serializers use the default property names and inclusion rules, so they are not
+     * generated when {@code quarkus.jackson.property-naming-strategy} or {@code quarkus.jackson.serialization-inclusion} is
+     * set, and they ignore the equivalent settings applied by an {@code ObjectMapperCustomizer}.
+     */
+    @ConfigItem(name = "optimization.enable-reflection-free-serializers", defaultValue = "false")
+    public boolean enableReflectionFreeSerializers;
+
+}
@@ -6,8 +6,10 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,14 +36,19 @@
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.JacksonMixin;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
+import io.quarkus.jackson.spi.JacksonModuleBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -80,6 +87,7 @@ public class ResteasyReactiveJacksonProcessor {
             .createSimple(DisableSecureSerialization.class.getName());
     private static final DotName ENABLE_SECURE_SERIALIZATION = DotName
             .createSimple(EnableSecureSerialization.class.getName());
+    private static final DotName JACKSON_MIXIN = DotName.createSimple(JacksonMixin.class.getName());
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
     private static final List<String> HANDLED_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, APPLICATION_NDJSON,
@@ -359,6 +367,52 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
         }
     }
 
+    @BuildStep
+    void generateSerializers(ResteasyReactiveJacksonConfig config, JacksonBuildTimeConfig jacksonBuildTimeConfig,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries, CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<JacksonModuleBuildItem> jacksonModules) {
+        if (!config.enableReflectionFreeSerializers) {
+            return;
+        }
+        if (jacksonBuildTimeConfig.propertyNamingStrategy.isPresent()
+                || jacksonBuildTimeConfig.serializationInclusion.isPresent()) {
+            log.warn("The reflection free Jackson serializers are not generated because they do not support the "
+                    + "'quarkus.jackson.property-naming-strategy' and 'quarkus.jackson.serialization-inclusion' "
+                    + "configuration properties");
+            return;
+        }
+
+        IndexView indexView = index.getIndex();
+        Set<DotName> mixinTargets = new HashSet<>();
+        for (AnnotationInstance instance : indexView.getAnnotations(JACKSON_MIXIN)) {
+            Type[] targetTypes = instance.value().asClassArray();
+            for (Type targetType : targetTypes) {
+                mixinTargets.add(targetType.name());
+            }
+        }
+
+        Set<Type> types = new LinkedHashSet<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            MethodInfo methodInfo = entry.getMethodInfo();
+            types.add(methodInfo.returnType());
+            types.addAll(methodInfo.parameterTypes());
+        }
+
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(indexView,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), mixinTargets);
+        Map<String, String> serializers = generator.generate(types);
+        if (serializers.isEmpty()) {
+            return;
+        }
+        log.debugf("Generated the Jackson serializers of %s", serializers.keySet());
+        JacksonModuleBuildItem.Builder module = new JacksonModuleBuildItem.Builder("resteasy-reactive-serializers");
+        for (Map.Entry<String, String> serializer : serializers.entrySet()) {
+            module.addSerializer(serializer.getValue(), serializer.getKey());
+        }
+        jacksonModules.produce(module.build());
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
@@ -0,0 +1,83 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializersDefaultTypingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(OrderResource.class, Order.class, Item.class, DefaultTypingCustomizer.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Test
+    public void testDefaultTyping() throws JsonMappingException {
+        assertThat(mapper.getSerializerProviderInstance().findValueSerializer(Order.class).getClass().getName())
+                .endsWith("$quarkusjacksonserializer");
+
+        RestAssured.get("/order")
+                .then()
+                .statusCode(200)
+                .body("'@class'", is(Order.class.getName()))
+                .body("id", is("o1"))
+                .body("item.'@class'", is(Item.class.getName()))
+                .body("item.name", is("apple"));
+    }
+
+    @Singleton
+    public static class DefaultTypingCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
+                    JsonTypeInfo.As.PROPERTY);
+        }
+    }
+
+    @Path("/order")
+    public static class OrderResource {
+
+        @GET
+        public Order get() {
+            Order order = new Order();
+            order.id = "o1";
+            order.item = new Item();
+            order.item.name = "apple";
+            return order;
+        }
+    }
+
+    public static class Order {
+
+        public String id;
+        public Item item;
+    }
+
+    public static class Item {
+
+        public String name;
+    }
+}
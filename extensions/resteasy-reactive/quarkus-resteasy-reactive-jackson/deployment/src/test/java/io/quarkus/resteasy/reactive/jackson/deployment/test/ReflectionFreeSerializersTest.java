@@ -0,0 +1,220 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProductResource.class, Product.class, Price.class, Annotated.class, Typed.class,
+                            Unwrapped.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Test
+    public void testGeneratedSerializers() throws JsonMappingException {
+        assertThat(serializerOf(Product.class)).endsWith("$quarkusjacksonserializer");
+        // the types of the properties get a serializer too
+        assertThat(serializerOf(Price.class)).endsWith("$quarkusjacksonserializer");
+        // the types using Jackson annotations are left to Jackson
+        assertThat(serializerOf(Annotated.class)).doesNotEndWith("$quarkusjacksonserializer");
+    }
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/products/first")
+                .then()
+                .statusCode(200)
+                .body("name", is("apple"))
+                .body("quantity", is(3))
+                .body("available", is(true))
+                .body("grade", is("A"))
+                .body("description", nullValue())
+                .body("price.amount", is(1.5f))
+                .body("price.currency", is("EUR"))
+                .body("tags", is(List.of("fruit", "red")))
+                .body("url", is("https://quarkus.io"));
+
+        RestAssured.get("/products")
+                .then()
+                .statusCode(200)
+                .body("[0].name", is("apple"))
+                .body("[0].price.currency", is("EUR"));
+
+        RestAssured.get("/products/annotated")
+                .then()
+                .statusCode(200)
+                .body("renamed", is("value"));
+    }
+
+    @Test
+    public void testTypeInfo() {
+        RestAssured.get("/products/typed")
+                .then()
+                .statusCode(200)
+                .body("price.type", is(Price.class.getName()))
+                .body("price.amount", is(1.5f))
+                .body("price.currency", is("EUR"));
+    }
+
+    @Test
+    public void testUnwrapped() {
+        RestAssured.get("/products/unwrapped")
+                .then()
+                .statusCode(200)
+                .body("name", is("apple"))
+                .body("price_amount", is(1.5f))
+                .body("price_currency", is("EUR"))
+                .body("price", nullValue());
+    }
+
+    @Test
+    public void testDeserialization() {
+        RestAssured.with()
+                .contentType("application/json")
+                .body("{\"name\":\"pear\",\"quantity\":1,\"price\":{\"amount\":2.0,\"currency\":\"USD\"}}")
+                .post("/products")
+                .then()
+                .statusCode(200)
+                .body("name", is("pear"))
+                .body("price.currency", is("USD"));
+    }
+
+    private String serializerOf(Class<?> type) throws JsonMappingException {
+        return mapper.getSerializerProviderInstance().findValueSerializer(type).getClass().getName();
+    }
+
+    @Path("/products")
+    public static class ProductResource {
+
+        @GET
+        @Path("/first")
+        public Product first() {
+            return product();
+        }
+
+        @GET
+        public Uni<List<Product>> all() {
+            return Uni.createFrom().item(List.of(product()));
+        }
+
+        @GET
+        @Path("/annotated")
+        public Annotated annotated() {
+            Annotated annotated = new Annotated();
+            annotated.value = "value";
+            return annotated;
+        }
+
+        @GET
+        @Path("/typed")
+        public Typed typed() {
+            Typed typed = new Typed();
+            typed.price = product().price;
+            return typed;
+        }
+
+        @GET
+        @Path("/unwrapped")
+        public Unwrapped unwrapped() {
+            Unwrapped unwrapped = new Unwrapped();
+            unwrapped.name = "apple";
+            unwrapped.price = product().price;
+            return unwrapped;
+        }
+
+        @POST
+        public Product echo(Product product) {
+            return product;
+        }
+
+        private static Product product() {
+            Product product = new Product();
+            product.name = "apple";
+            product.quantity = 3;
+            product.available = true;
+            product.grade = 'A';
+            product.price = new Price();
+            product.price.amount = 1.5;
+            product.price.currency = "EUR";
+            product.setTags(List.of("fruit", "red"));
+            return product;
+        }
+    }
+
+    public static class Product {
+
+        public String name;
+        public int quantity;
+        public boolean available;
+        public char grade;
+        public String description;
+        public Price price;
+        private List<String> tags;
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public String getURL() {
+            return "https://quarkus.io";
+        }
+    }
+
+    public static class Price {
+
+        public double amount;
+        public String currency;
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String value;
+    }
+
+    public static class Typed {
+
+        // Price itself is serialized by its generated serializer
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, property = "type")
+        public Price price;
+    }
+
+    public static class Unwrapped {
+
+        public String name;
+        @JsonUnwrapped(prefix = "price_")
+        public Price price;
+    }
+}
@@ -144,6 +144,30 @@ public void testLargeJsonPost() {
                 .body("first", Matchers.equalTo(longString)).body("last", Matchers.equalTo(longString));
     }
 
+    @Test
+    public void testBufferedJsonPost() {
+        // small enough to be buffered on the IO thread, but likely to be received in several chunks
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 200; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"first\": \"Bob").append(i).append("\", \"last\": \"Builder\"}");
+        }
+        sb.append(']');
+        RestAssured
+                .with()
+                .body(sb.toString())
+                .contentType("application/json; charset=utf-8")
+                .post("/simple/people")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("size()", Matchers.equalTo(200))
+                .body("[0].first", Matchers.equalTo("Bob199"))
+                .body("[199].first", Matchers.equalTo("Bob0"));
+    }
+
     @Test
     public void testValidatedJson() {
         String postBody = "{\"first\": \"Bob\", \"last\": \"Builder\"}";
@@ -0,0 +1,90 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * The base class of the serializers generated at build time for the plain classes handled by the resource methods.
+ * <p>
+ * The generated subclasses only write the properties, using the names held by {@link #names}, so that the type
+ * information required by {@code @JsonTypeInfo} or the default typing, and the unwrapping required by
+ * {@code @JsonUnwrapped}, are handled the same way as the {@code BeanSerializer} does.
+ */
+public abstract class GeneratedBeanSerializer<T> extends StdSerializer<T> {
+
+    /**
+     * The names of the properties, in the order they are written.
+     */
+    protected final String[] names;
+    private final boolean unwrapping;
+
+    protected GeneratedBeanSerializer(Class<T> type, String[] names, boolean unwrapping) {
+        super(type);
+        this.names = names;
+        this.unwrapping = unwrapping;
+    }
+
+    /**
+     * Writes the properties of the given bean, without the enclosing object.
+     */
+    protected abstract void serializeFields(T bean, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    /**
+     * @return a serializer of the same type writing the properties under the given names, without the enclosing object
+     */
+    protected abstract GeneratedBeanSerializer<T> withUnwrappedNames(String[] names);
+
+    @Override
+    public void serialize(T bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (unwrapping) {
+            gen.setCurrentValue(bean);
+            serializeFields(bean, gen, provider);
+            return;
+        }
+        gen.writeStartObject(bean);
+        serializeFields(bean, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T bean, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        if (unwrapping) {
+            // same behaviour as the UnwrappingBeanSerializer
+            if (provider.isEnabled(SerializationFeature.FAIL_ON_UNWRAPPED_TYPE_IDENTIFIERS)) {
+                provider.reportBadDefinition(handledType(), "Unwrapped property requires use of type information: "
+                        + "cannot serialize without disabling `SerializationFeature.FAIL_ON_UNWRAPPED_TYPE_IDENTIFIERS`");
+            }
+            gen.setCurrentValue(bean);
+            serializeFields(bean, gen, provider);
+            return;
+        }
+        gen.setCurrentValue(bean);
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(bean, JsonToken.START_OBJECT));
+        serializeFields(bean, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return unwrapping;
+    }
+
+    @Override
+    public JsonSerializer<T> unwrappingSerializer(NameTransformer unwrapper) {
+        String[] unwrappedNames = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            unwrappedNames[i] = unwrapper.transform(names[i]);
+        }
+        return withUnwrappedNames(unwrappedNames);
+    }
+}
@@ -83,8 +83,8 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
         }
         try {
             ObjectReader reader = getEffectiveReader();
-            return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                    .readValue(entityStream);
+            return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                    entityStream);
         } catch (MismatchedInputException e) {
             if (isEmptyInputException(e)) {
                 return null;
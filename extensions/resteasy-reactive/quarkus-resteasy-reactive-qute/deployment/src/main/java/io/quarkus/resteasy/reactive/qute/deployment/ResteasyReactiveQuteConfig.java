@@ -0,0 +1,25 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.qute")
+public class ResteasyReactiveQuteConfig {
+
+    /**
+     * If set to {@code true}, the output of a {@code TemplateInstance} returned from a resource method is written to the
+     * HTTP response in chunks while the template is being rendered, instead of rendering the whole output as a
+     * {@code String} first.
+     * <p>
+     * Note that the response filters are not applied to a streamed template output.
+     */
+    @ConfigItem(name = "streaming.enabled", defaultValue = "false")
+    public boolean streamingEnabled;
+
+    /**
+     * The minimal number of characters that are written to the response at once when streaming is enabled.
+     */
+    @ConfigItem(name = "streaming.chunk-size", defaultValue = "8192")
+    public int streamingChunkSize;
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.COMPLETION_STAGE;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.REST_RESPONSE;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.UNI;
 
 import java.util.Collections;
@@ -23,6 +24,7 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseStreamHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
@@ -54,12 +56,24 @@ NonBlockingReturnTypeBuildItem nonBlockingTemplateInstance() {
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(ResteasyReactiveQuteConfig config) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
                     Map<String, Object> methodContext) {
-                if (method.returnType().name().equals(TEMPLATE_INSTANCE) || isAsyncTemplateInstance(method.returnType())) {
+                boolean isTemplateInstance = method.returnType().name().equals(TEMPLATE_INSTANCE)
+                        || isAsyncTemplateInstance(method.returnType());
+                if (config.streamingEnabled
+                        && (isTemplateInstance || isWrapped(REST_RESPONSE, method.returnType()))) {
+                    // TemplateResponseStreamHandler writes the response directly, once the status and the headers set
+                    // by the resource method are known
+                    TemplateResponseStreamHandler streamHandler = new TemplateResponseStreamHandler();
+                    streamHandler.setChunkSize(config.streamingChunkSize);
+                    return Collections.singletonList(
+                            new FixedHandlersChainCustomizer(List.of(streamHandler),
+                                    HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+                }
+                if (isTemplateInstance) {
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
@@ -71,6 +85,15 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                 return Collections.emptyList();
             }
 
+            private boolean isWrapped(DotName wrapper, Type type) {
+                if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                    ParameterizedType parameterizedType = type.asParameterizedType();
+                    return parameterizedType.name().equals(wrapper) && parameterizedType.arguments().size() == 1
+                            && parameterizedType.arguments().get(0).name().equals(TEMPLATE_INSTANCE);
+                }
+                return false;
+            }
+
             private boolean isAsyncTemplateInstance(Type type) {
                 boolean isAsyncTemplateInstance = false;
                 if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
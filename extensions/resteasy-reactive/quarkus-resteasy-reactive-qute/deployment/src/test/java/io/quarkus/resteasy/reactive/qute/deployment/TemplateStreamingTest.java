@@ -0,0 +1,180 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.ResponseHeader;
+import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.TemplateInstanceBase;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class TemplateStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(StreamingResource.class, FailingTemplateInstance.class)
+                    .addAsResource(new StringAsset("{#for i in items}{i}:{/for}"), "templates/items.txt")
+                    .addAsResource(new StringAsset("quarkus.resteasy-reactive.qute.streaming.enabled=true\n"
+                            + "quarkus.resteasy-reactive.qute.streaming.chunk-size=16"), "application.properties"));
+
+    @Test
+    public void testStreaming() {
+        String expected = IntStream.range(0, 1000).mapToObj(i -> i + ":").collect(Collectors.joining());
+        when().get("/streaming").then().statusCode(200)
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is(expected));
+        when().get("/streaming/uni").then().statusCode(200)
+                .body(Matchers.is(expected));
+        when().get("/streaming/empty").then().statusCode(200)
+                .body(Matchers.is(""));
+    }
+
+    @Test
+    public void testStatusAndHeaders() {
+        when().get("/streaming/created").then().statusCode(201)
+                .header("foo", "bar")
+                .body(Matchers.is("1:2:"));
+        when().get("/streaming/rest-response").then().statusCode(202)
+                .header("foo", "baz")
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is("3:"));
+    }
+
+    @Test
+    public void testFailureAfterHeaders() {
+        // the response must not look complete, so the chunked body is not terminated
+        assertThrows(Exception.class, () -> when().get("/streaming/failing").asString());
+        when().get("/streaming/empty").then().statusCode(200)
+                .body(Matchers.is(""));
+    }
+
+    @Path("streaming")
+    public static class StreamingResource {
+
+        @Inject
+        Template items;
+
+        @Inject
+        Engine engine;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return items.data("items", IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        }
+
+        @Path("uni")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<TemplateInstance> uni() {
+            return Uni.createFrom().item(get());
+        }
+
+        @Path("empty")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance empty() {
+            return items.data("items", List.of());
+        }
+
+        @Path("created")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @ResponseStatus(201)
+        @ResponseHeader(name = "foo", value = "bar")
+        public TemplateInstance created() {
+            return items.data("items", List.of(1, 2));
+        }
+
+        @Path("rest-response")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public RestResponse<TemplateInstance> restResponse() {
+            return RestResponse.ResponseBuilder.create(RestResponse.Status.ACCEPTED, items.data("items", List.of(3)))
+                    .header("foo", "baz").build();
+        }
+
+        @Path("failing")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance failing() {
+            return new FailingTemplateInstance(engine);
+        }
+    }
+
+    /**
+     * Emits some output, so that the headers are sent, then fails.
+     */
+    public static class FailingTemplateInstance extends TemplateInstanceBase {
+
+        private final Engine engine;
+
+        FailingTemplateInstance(Engine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public CompletionStage<Void> consume(Consumer<String> consumer) {
+            for (int i = 0; i < 100; i++) {
+                consumer.accept(i + ":");
+            }
+            return CompletableFuture.failedFuture(new IllegalStateException("Rendering failed"));
+        }
+
+        @Override
+        public String render() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<String> renderAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Multi<String> createMulti() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<String> createUni() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Template getTemplate() {
+            return null;
+        }
+
+        @Override
+        protected Engine engine() {
+            return engine;
+        }
+    }
+
+}
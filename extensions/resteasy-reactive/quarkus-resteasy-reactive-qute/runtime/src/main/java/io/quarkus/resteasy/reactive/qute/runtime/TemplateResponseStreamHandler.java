@@ -0,0 +1,225 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Writes the output of a {@link TemplateInstance} to the HTTP response in chunks while the template is being rendered.
+ * <p>
+ * Unlike {@link TemplateResponseUniHandler} the whole output is never held as a single {@link String}. The chunks are handed
+ * to the response as long as its write queue is not full, the following ones are kept until it is drained. The rendering
+ * itself cannot be paused, so the chunks of a template rendered faster than the client reads the response are still held in
+ * memory until they are written.
+ * <p>
+ * The handler runs once the response has been created, so that the status and the headers set by the resource method are
+ * sent. Once the output is written the remaining handlers are skipped and the request context is resumed, so that it is
+ * completed by the handler chain itself even if the template was rendered synchronously. If the rendering fails once the
+ * headers were sent, the connection is closed so that the client does not take the truncated output for a complete one.
+ */
+public class TemplateResponseStreamHandler implements ServerRestHandler {
+
+    private static final Logger LOG = Logger.getLogger(TemplateResponseStreamHandler.class);
+
+    private int chunkSize = 8192;
+
+    private volatile Engine engine;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        // the entity of the response, which is the result of the method unless it returned a RestResponse
+        Object result = requestContext.getResponseEntity();
+        if (!(result instanceof TemplateInstance)) {
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        if (mediaType == null) {
+            ServerMediaType produces = requestContext.getTarget().getProduces();
+            mediaType = produces != null ? produces.getSortedOriginalMediaTypes()[0] : MediaType.TEXT_PLAIN_TYPE;
+        }
+        if (!mediaType.getParameters().containsKey(MediaType.CHARSET_PARAMETER)) {
+            mediaType = mediaType.withCharset(StandardCharsets.UTF_8.name());
+        }
+        requestContext.setResponseContentType(mediaType);
+
+        ChunkedOutput output = new ChunkedOutput(requestContext, chunkSize);
+        requestContext.suspend();
+        CompletionStage<Void> rendered = instance.consume(output);
+        if (engine.useAsyncTimeout()) {
+            rendered = rendered.toCompletableFuture().orTimeout(instance.getTimeout(), TimeUnit.MILLISECONDS);
+        }
+        rendered.whenComplete((r, t) -> {
+            if (t == null) {
+                output.complete();
+            } else {
+                output.fail(t);
+            }
+        });
+    }
+
+    static final class ChunkedOutput implements Consumer<String> {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final ServerHttpResponse response;
+        private final int chunkSize;
+        // Chunks waiting for the write queue of the response to be drained; guarded by this
+        private final Deque<byte[]> pending;
+        private StringBuilder current;
+        private boolean drainHandlerAdded;
+        private boolean completed;
+        private boolean closed;
+
+        ChunkedOutput(ResteasyReactiveRequestContext requestContext, int chunkSize) {
+            this.requestContext = requestContext;
+            this.response = requestContext.serverResponse();
+            this.chunkSize = chunkSize;
+            this.pending = new ArrayDeque<>();
+            this.current = new StringBuilder(chunkSize);
+        }
+
+        @Override
+        public void accept(String value) {
+            current.append(value);
+            if (current.length() >= chunkSize) {
+                enqueue(flushCurrent());
+            }
+        }
+
+        synchronized void complete() {
+            if (current.length() > 0) {
+                enqueue(flushCurrent());
+            }
+            completed = true;
+            if (!closed && pending.isEmpty()) {
+                end();
+            }
+        }
+
+        synchronized void fail(Throwable failure) {
+            if (closed) {
+                return;
+            }
+            pending.clear();
+            if (response.headWritten()) {
+                // The output was partially sent already - ending the response would make it look complete
+                LOG.error("Unable to render the template, the response was already committed", failure);
+                requestContext.serverRequest().closeConnection();
+                finish();
+            } else {
+                closed = true;
+                requestContext.resume(failure instanceof TemplateException ? failure : new TemplateException(failure),
+                        true);
+            }
+        }
+
+        private synchronized void enqueue(byte[] chunk) {
+            if (closed) {
+                return;
+            }
+            if (pending.isEmpty() && !response.isWriteQueueFull()) {
+                write(chunk);
+                return;
+            }
+            pending.add(chunk);
+            if (!drainHandlerAdded) {
+                drainHandlerAdded = true;
+                response.addDrainHandler(this::drain);
+            }
+        }
+
+        private synchronized void drain() {
+            while (!closed && !pending.isEmpty() && !response.isWriteQueueFull()) {
+                write(pending.poll());
+            }
+            if (!closed && completed && pending.isEmpty()) {
+                end();
+            }
+        }
+
+        private byte[] flushCurrent() {
+            byte[] chunk = current.toString().getBytes(StandardCharsets.UTF_8);
+            current.setLength(0);
+            return chunk;
+        }
+
+        private void write(byte[] chunk) {
+            setHeaders();
+            response.write(chunk, this::written);
+        }
+
+        private synchronized void written(Throwable failure) {
+            if (failure != null && !closed) {
+                LOG.debugf(failure, "Unable to write the template output");
+                pending.clear();
+                finish();
+            }
+        }
+
+        private void setHeaders() {
+            if (!response.headWritten()) {
+                // The status and the headers set by the resource method, e.g. with @ResponseStatus or RestResponse
+                ServerSerialisers.encodeResponseHeaders(requestContext);
+                if (response.getResponseHeader(HttpHeaders.CONTENT_TYPE) == null) {
+                    response.setResponseHeader(HttpHeaders.CONTENT_TYPE,
+                            requestContext.getResponseContentType().toString());
+                }
+                response.setChunked(true);
+            }
+        }
+
+        private void end() {
+            setHeaders();
+            response.end();
+            finish();
+        }
+
+        private void finish() {
+            closed = true;
+            // The remaining handlers would write the entity - the chain completes, and closes the context, once resumed
+            requestContext.setPosition(requestContext.getHandlers().length);
+            requestContext.resume();
+        }
+
+    }
+
+}
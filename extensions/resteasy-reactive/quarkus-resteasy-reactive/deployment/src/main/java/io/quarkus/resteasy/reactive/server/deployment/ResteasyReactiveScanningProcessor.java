@@ -40,6 +40,7 @@
 import org.jboss.resteasy.reactive.server.processor.generation.filters.FilterGeneration;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
@@ -99,6 +100,11 @@ public MethodScannerBuildItem cacheControlSupport() {
         return new MethodScannerBuildItem(new CacheControlScanner());
     }
 
+    @BuildStep
+    public MethodScannerBuildItem responseCacheSupport() {
+        return new MethodScannerBuildItem(new ResponseCacheScanner());
+    }
+
     @BuildStep
     public MethodScannerBuildItem compressionSupport(HttpBuildTimeConfig httpBuildTimeConfig) {
         return new MethodScannerBuildItem(new CompressionScanner(httpBuildTimeConfig));
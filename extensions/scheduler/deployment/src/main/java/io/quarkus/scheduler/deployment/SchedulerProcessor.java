@@ -65,6 +65,7 @@
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRouteBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
@@ -371,6 +372,17 @@ public void metrics(SchedulerConfig config,
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerSchedulerMetrics(SchedulerConfig config, Capabilities capabilities,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, SchedulerRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        // Trigger lag metrics are only collected by the simple scheduler
+        if (config.metricsEnabled && metricsCapability.isPresent() && capabilities.isMissing(Capability.QUARTZ)) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     @BuildStep
     public void tracing(SchedulerConfig config,
             Capabilities capabilities, BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer) {
@@ -1,5 +1,6 @@
 package io.quarkus.scheduler.test.metrics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -85,6 +86,17 @@ void testTimedMethod() throws InterruptedException {
         }
     }
 
+    @Test
+    void testTriggerLag() throws InterruptedException {
+        assertTrue(Jobs.latch01.await(5, TimeUnit.SECONDS));
+        Timer lag = registry.get("scheduler.trigger.lag").timer();
+        assertNotNull(lag);
+        Awaitility.await().pollInterval(10, TimeUnit.MILLISECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(lag.count() > 0, "Count=" + lag.count()));
+        assertEquals(2.0, registry.get("scheduler.jobs").gauge().value());
+    }
+
     static class Jobs {
 
         static final CountDownLatch latch01 = new CountDownLatch(1);
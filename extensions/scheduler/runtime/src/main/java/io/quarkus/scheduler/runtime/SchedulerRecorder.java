@@ -1,11 +1,15 @@
 package io.quarkus.scheduler.runtime;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.common.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 
@@ -32,4 +36,16 @@ public List<ScheduledMethodMetadata> getScheduledMethods() {
             }
         };
     }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Scheduler scheduler = Arc.container().instance(Scheduler.class).get();
+                if (scheduler instanceof SimpleScheduler) {
+                    ((SimpleScheduler) scheduler).registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
 }
@@ -5,10 +5,13 @@
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +40,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.scheduler.FailedExecution;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
@@ -77,12 +81,17 @@ public class SimpleScheduler implements Scheduler {
     private final Vertx vertx;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // Tasks ordered by the time of the next evaluation; guarded by itself
+    private final PriorityQueue<ScheduledTask> triggerQueue;
+    // The tasks due at the current tick; only used by the scheduler thread, the checks never overlap
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
     private final boolean enabled;
     private final CronParser cronParser;
     private final Duration defaultOverdueGracePeriod;
     private final Event<SkippedExecution> skippedExecutionEvent;
     private final Event<SuccessfulExecution> successExecutionEvent;
     private final Event<FailedExecution> failedExecutionEvent;
+    private volatile MetricsFactory.TimeRecorder lagRecorder;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -90,6 +99,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.triggerQueue = new PriorityQueue<>(Comparator.comparingLong(ScheduledTask::getNextCheck));
         this.vertx = vertx;
         this.skippedExecutionEvent = skippedExecutionEvent;
         this.successExecutionEvent = successExecutionEvent;
@@ -138,7 +148,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()),
                             skippedExecutionEvent, successExecutionEvent, failedExecutionEvent,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()));
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    enqueue(task);
                 }
             }
         }
@@ -161,6 +173,11 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    synchronized (triggerQueue) {
+                        // A task which is being checked is not in the queue, the flag prevents it from being enqueued again
+                        task.removed = true;
+                        triggerQueue.remove(task);
+                    }
                     return task.trigger;
                 }
             }
@@ -198,9 +215,56 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        // Only the tasks that may fire are evaluated; the rest of the queue is not touched at all
+        List<ScheduledTask> due = dueTasks;
+        synchronized (triggerQueue) {
+            ScheduledTask head;
+            while ((head = triggerQueue.peek()) != null && head.nextCheck <= nowMillis) {
+                due.add(triggerQueue.poll());
+            }
+        }
+        try {
+            for (ScheduledTask task : due) {
+                if (task.removed) {
+                    continue;
+                }
+                ZonedDateTime scheduledFireTime = task.execute(now, vertx);
+                if (scheduledFireTime != null) {
+                    MetricsFactory.TimeRecorder recorder = lagRecorder;
+                    if (recorder != null) {
+                        recorder.update(Duration.between(scheduledFireTime, now));
+                    }
+                }
+            }
+        } finally {
+            synchronized (triggerQueue) {
+                for (ScheduledTask task : due) {
+                    if (!task.removed) {
+                        // A task that did not fire (e.g. a paused trigger) is checked again at the next tick at the latest
+                        task.nextCheck = Math.max(task.trigger.nextEvaluation(), nowMillis + 1);
+                        triggerQueue.offer(task);
+                    }
+                }
+            }
+            due.clear();
+        }
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        lagRecorder = metricsFactory.builder("scheduler.trigger.lag")
+                .description("The delay between the scheduled fire time and the actual fire time of a trigger.")
+                .buildTimer();
+        metricsFactory.builder("scheduler.jobs")
+                .description("Number of scheduled jobs.")
+                .buildGauge(scheduledTasks::size);
+    }
+
+    private void enqueue(ScheduledTask task) {
+        synchronized (triggerQueue) {
+            task.nextCheck = task.trigger.nextEvaluation();
+            triggerQueue.offer(task);
         }
     }
 
@@ -351,6 +415,9 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // epoch millis; only modified while the task is not in the trigger queue
+        long nextCheck;
+        volatile boolean removed;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -358,9 +425,18 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        long getNextCheck() {
+            return nextCheck;
+        }
+
+        /**
+         * @param now
+         * @param vertx
+         * @return the scheduled time if fired, {@code null} otherwise
+         */
+        ZonedDateTime execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
-                return;
+                return null;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
@@ -386,6 +462,7 @@ public void handle(Void event) {
                     });
                 }
             }
+            return scheduledFireTime;
         }
 
         void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
@@ -417,6 +494,14 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The returned value must not be later than the time at which {@link #evaluate(ZonedDateTime)} fires.
+         *
+         * @return the epoch millis of the earliest time this trigger may fire, or {@link Long#MAX_VALUE} if it never fires
+         *         again
+         */
+        abstract long nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -469,6 +554,15 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -517,6 +611,15 @@ public Instant getNextFireTime() {
             return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
         }
 
+        @Override
+        long nextEvaluation() {
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
+            if (nextFireTime.isEmpty()) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(nextFireTime.get().toInstant().toEpochMilli(), start.toInstant().toEpochMilli());
+        }
+
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
@@ -639,6 +742,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                enqueue(scheduledTask);
                 return simpleTrigger;
             }
             return null;
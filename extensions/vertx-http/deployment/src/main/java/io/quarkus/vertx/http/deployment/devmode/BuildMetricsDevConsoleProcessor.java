@@ -75,6 +75,25 @@ public Map<String, Object> get() {
                                 }
                                 metrics.put("records", records);
                                 metrics.put("duration", buildDuration);
+
+                                // The critical path is the chain of build steps which determined the duration of the build
+                                List<JsonObject> criticalPath = new ArrayList<>();
+                                long stepsDuration = 0;
+                                JsonArray criticalPathIds = data.getJsonArray("criticalPath");
+                                if (criticalPathIds != null) {
+                                    for (Object recordId : criticalPathIds) {
+                                        JsonObject recordObj = recordIdToRecord.get(((Number) recordId).intValue());
+                                        if (recordObj != null) {
+                                            recordObj.put("critical", true);
+                                            criticalPath.add(recordObj);
+                                        }
+                                    }
+                                    stepsDuration = data.getLong("stepsDuration", 0L);
+                                }
+                                metrics.put("criticalPath", criticalPath);
+                                metrics.put("parallelism",
+                                        buildDuration > 0 ? String.format("%.2f", (double) stepsDuration / buildDuration)
+                                                : "n/a");
                             } catch (IOException e) {
                                 LOG.error(e);
                             }
@@ -312,6 +312,13 @@ void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
                     Collections.unmodifiableSet(removedDecorators));
         }
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
+        // The request scoped beans that were not removed get a slot in the state of the request context
+        int requestContextSlot = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextSlot(requestContextSlot++);
+            }
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
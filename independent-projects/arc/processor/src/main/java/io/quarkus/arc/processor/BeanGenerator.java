@@ -296,6 +296,7 @@ Collection<Resource> generateSyntheticBean(BeanInfo bean) {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -382,6 +383,7 @@ Collection<Resource> generateClassBean(BeanInfo bean, ClassInfo beanClass) {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -466,6 +468,7 @@ Collection<Resource> generateProducerMethodBean(BeanInfo bean, MethodInfo produc
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -546,6 +549,7 @@ Collection<Resource> generateProducerFieldBean(BeanInfo bean, FieldInfo producer
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -1829,6 +1833,15 @@ protected void implementGetPriority(BeanInfo bean, ClassCreator beanCreator) {
         }
     }
 
+    protected void implementGetRequestContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.getRequestContextSlot() >= 0) {
+            MethodCreator getRequestContextSlot = beanCreator.getMethodCreator("getRequestContextSlot", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextSlot
+                    .returnValue(getRequestContextSlot.load(bean.getRequestContextSlot()));
+        }
+    }
+
     protected void implementIsDefaultBean(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isDefaultBean = beanCreator.getMethodCreator("isDefaultBean", boolean.class)
                 .setModifiers(ACC_PUBLIC);
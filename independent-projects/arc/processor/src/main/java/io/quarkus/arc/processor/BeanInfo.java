@@ -91,6 +91,9 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final String targetPackageName;
 
+    // Assigned once the unused beans are removed, -1 if not request scoped
+    private int requestContextSlot = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -443,6 +446,19 @@ public Integer getPriority() {
         return priority;
     }
 
+    /**
+     *
+     * @return the slot of the contextual instance in the state of the request context, or {@code -1}
+     * @see io.quarkus.arc.InjectableBean#getRequestContextSlot()
+     */
+    public int getRequestContextSlot() {
+        return requestContextSlot;
+    }
+
+    void setRequestContextSlot(int requestContextSlot) {
+        this.requestContextSlot = requestContextSlot;
+    }
+
     public List<StereotypeInfo> getStereotypes() {
         return stereotypes;
     }
@@ -143,6 +143,16 @@ default int getPriority() {
         return 0;
     }
 
+    /**
+     * The slots are assigned by the container to the {@link javax.enterprise.context.RequestScoped} beans when the
+     * application is built, so that the request context stores their contextual instances in an array.
+     *
+     * @return the slot of the contextual instance in the state of the request context, or {@code -1} if no slot is assigned
+     */
+    default int getRequestContextSlot() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
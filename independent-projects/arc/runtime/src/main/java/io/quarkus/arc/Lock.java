@@ -62,7 +62,17 @@ public enum Type {
          * <p>
          * This could be useful if you need to override the behavior defined by a class-level interceptor binding.
          */
-        NONE
+        NONE,
+        /**
+         * Acquires no lock unless a write lock is held.
+         * <p>
+         * The business method is invoked without locking. If the write lock was held or acquired in the meantime, the result
+         * (or exception) of the invocation is discarded and the business method is invoked again while holding the read lock.
+         * Therefore, the business method may be invoked twice and must not have side effects. The interceptors with a lower
+         * priority than the lock interceptor, such as {@code @Transactional}, are invoked twice as well. This type is useful
+         * for read-mostly beans where read locks would cause contention between readers.
+         */
+        OPTIMISTIC_READ
     }
 
 }
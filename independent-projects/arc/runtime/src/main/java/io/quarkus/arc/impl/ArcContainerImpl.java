@@ -172,7 +172,7 @@ public List<RemovedBean> get() {
                 new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                         notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE))),
+                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)), this.beans),
                 new ApplicationContext(),
                 new SingletonContext());
 
@@ -3,8 +3,9 @@
 import static javax.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.VarHandle;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.annotation.Priority;
@@ -21,7 +22,10 @@
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    // Incremented when the write lock is acquired and when it's released, i.e. the value is odd while a writer holds the lock
+    private final AtomicLong writeSequence = new AtomicLong();
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
@@ -31,6 +35,8 @@ Object lock(InvocationContext ctx) throws Exception {
                 return writeLock(lock, ctx);
             case READ:
                 return readLock(lock, ctx);
+            case OPTIMISTIC_READ:
+                return optimisticRead(lock, ctx);
             case NONE:
                 return ctx.proceed();
         }
@@ -50,9 +56,15 @@ private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
                 readWriteLock.writeLock().lock();
                 locked = true;
             }
+            if (readWriteLock.getWriteHoldCount() == 1) {
+                writeSequence.incrementAndGet();
+            }
             return ctx.proceed();
         } finally {
             if (locked) {
+                if (readWriteLock.getWriteHoldCount() == 1) {
+                    writeSequence.incrementAndGet();
+                }
                 readWriteLock.writeLock().unlock();
             }
         }
@@ -79,6 +91,31 @@ private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
         }
     }
 
+    private Object optimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+        long sequence = writeSequence.get();
+        if ((sequence & 1) == 0 && !readWriteLock.isWriteLocked()) {
+            Object result = null;
+            Exception failure = null;
+            try {
+                result = ctx.proceed();
+            } catch (Exception e) {
+                // The failure may be caused by a concurrent write
+                failure = e;
+            }
+            // Make sure the reads performed by the business method are not reordered with the validation
+            VarHandle.acquireFence();
+            if (writeSequence.get() == sequence) {
+                // No write happened in the meantime
+                if (failure != null) {
+                    throw failure;
+                }
+                return result;
+            }
+        }
+        // A writer holds or acquired the lock - invoke the business method again while holding the read lock
+        return readLock(lock, ctx);
+    }
+
     @SuppressWarnings("unchecked")
     Lock getLock(InvocationContext ctx) {
         Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
@@ -3,11 +3,16 @@
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -26,6 +31,10 @@
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * Every {@link RequestScoped} bean known to the container is assigned a fixed slot when the application is built, see
+ * {@link InjectableBean#getRequestContextSlot()}, so that the state of a request does not need a hash map for the contextual
+ * instances of these beans.
  *
  * @author Martin Kouba
  */
@@ -39,8 +48,26 @@ class RequestContext implements ManagedContext {
     private final Notifier<Object> beforeDestroyedNotifier;
     private final Notifier<Object> destroyedNotifier;
 
+    // The number of slots, 0 if the slots are not used
+    private final int slots;
+
     public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
-            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier) {
+            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier, List<InjectableBean<?>> beans) {
+        // The slots are only used if they were assigned to distinct beans of a single deployment, i.e. form a range [0, n)
+        BitSet assigned = new BitSet();
+        int slots = 0;
+        for (InjectableBean<?> bean : beans) {
+            int slot = bean.getRequestContextSlot();
+            if (slot >= 0) {
+                assigned.set(slot);
+                slots++;
+            }
+        }
+        if (slots != assigned.cardinality() || slots != assigned.length()) {
+            LOG.debugf("Invalid request context slots assigned to %s beans, the slots are not used", slots);
+            slots = 0;
+        }
+        this.slots = slots;
         this.currentContext = currentContext;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
@@ -66,13 +93,14 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        int slot = slot(bean);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(slot, contextual);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            ctxState.put(slot, contextual, instance);
         }
         return instance.get();
     }
@@ -99,7 +127,7 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(slot(bean), contextual);
         return instance == null ? null : instance.get();
     }
 
@@ -115,7 +143,7 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(slot(contextual), contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -133,7 +161,7 @@ public void activate(ContextState initialState) {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(slots));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -196,12 +224,7 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
-                if (!map.isEmpty()) {
-                    //Performance: avoid an iterator on the map elements
-                    map.forEach(this::destroyContextElement);
-                    map.clear();
-                }
+                reqState.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -210,7 +233,14 @@ public void destroy(ContextState state) {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private int slot(Contextual<?> contextual) {
+        if (slots == 0 || !(contextual instanceof InjectableBean)) {
+            return -1;
+        }
+        return ((InjectableBean<?>) contextual).getRequestContextSlot();
+    }
+
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -237,26 +267,94 @@ private ContextNotActiveException notActive() {
     static class RequestContextState implements ContextState {
 
         private static final VarHandle IS_VALID;
+        private static final VarHandle SLOTS;
+        private static final VarHandle MAP;
 
         static {
             try {
                 IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                SLOTS = MethodHandles.lookup().findVarHandle(RequestContextState.class, "slots",
+                        AtomicReferenceArray.class);
+                MAP = MethodHandles.lookup().findVarHandle(RequestContextState.class, "map", ConcurrentMap.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        private final int size;
+        // Instances of beans that were assigned a slot; created lazily as many requests do not use any request scoped bean
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+        // Instances of other contextuals; created lazily
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
         private volatile int isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int size) {
+            this.size = size;
             this.isValid = 1;
         }
 
+        ContextInstanceHandle<?> get(int slot, Contextual<?> contextual) {
+            if (slot >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+                return slots != null ? slots.get(slot) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(int slot, Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            if (slot >= 0) {
+                slots().set(slot, instance);
+            } else {
+                map().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(int slot, Contextual<?> contextual) {
+            if (slot >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+                return slots != null ? slots.getAndSet(slot, null) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void destroyAll(Consumer<ContextInstanceHandle<?>> destroyAction) {
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots != null) {
+                for (int i = 0; i < slots.length(); i++) {
+                    ContextInstanceHandle<?> instance = slots.get(i);
+                    // only the slots holding an instance are written, the instance may be destroyed concurrently
+                    if (instance != null && slots.compareAndSet(i, instance, null)) {
+                        destroyAction.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null && !map.isEmpty()) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> destroyAction.accept(instance));
+                map.clear();
+            }
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
+            List<ContextInstanceHandle<?>> instances = new ArrayList<>();
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots != null) {
+                for (int i = 0; i < slots.length(); i++) {
+                    ContextInstanceHandle<?> instance = slots.get(i);
+                    if (instance != null) {
+                        instances.add(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                instances.addAll(map.values());
+            }
+            return instances.stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
@@ -273,6 +371,30 @@ public boolean isValid() {
             return isValid == 1;
         }
 
+        @SuppressWarnings("unchecked")
+        private AtomicReferenceArray<ContextInstanceHandle<?>> slots() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots == null) {
+                slots = new AtomicReferenceArray<>(size);
+                if (!SLOTS.compareAndSet(this, null, slots)) {
+                    slots = (AtomicReferenceArray<ContextInstanceHandle<?>>) SLOTS.getVolatile(this);
+                }
+            }
+            return slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map == null) {
+                map = new ConcurrentHashMap<>();
+                if (!MAP.compareAndSet(this, null, map)) {
+                    map = (ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>) MAP.getVolatile(this);
+                }
+            }
+            return map;
+        }
+
     }
 
 }
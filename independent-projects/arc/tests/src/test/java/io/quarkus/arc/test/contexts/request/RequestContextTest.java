@@ -204,6 +204,30 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testDestroyContextual() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+            // the slot is assigned at build time
+            assertTrue(controllerBean.getRequestContextSlot() >= 0);
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            String controllerId = arc.instance(Controller.class).get().getId();
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            assertTrue(requestContext.getState().getContextualInstances().containsKey(controllerBean));
+
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
@@ -0,0 +1,122 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class LockOptimisticReadTest {
+
+    static ExecutorService executor;
+
+    @BeforeAll
+    static void initExecutor() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    static void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class, Lock.class, LockInterceptor.class);
+
+    @Test
+    public void testOptimisticReadWithoutWriter() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertEquals(0, counter.get());
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testOptimisticReadWaitsForWriter() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> writer = executor.submit(() -> {
+            counter.increment(inside, mayComplete);
+            return null;
+        });
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+        Future<Integer> reader = executor.submit(counter::get);
+        // The write lock is held - the reader must wait for the writer
+        assertThrows(TimeoutException.class, () -> reader.get(100, TimeUnit.MILLISECONDS));
+        assertFalse(reader.isDone());
+        mayComplete.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        assertEquals(1, reader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testOptimisticReadRetriedAfterConcurrentWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        CountDownLatch readerInside = new CountDownLatch(1);
+        CountDownLatch writerDone = new CountDownLatch(1);
+        Future<Integer> reader = executor.submit(() -> counter.getSlowly(readerInside, writerDone));
+        assertTrue(readerInside.await(5, TimeUnit.SECONDS));
+        // The optimistic read holds no lock - the writer does not wait for the reader
+        counter.increment();
+        writerDone.countDown();
+        // The value read before the write is discarded and the method is invoked again with the read lock
+        assertEquals(1, reader.get(5, TimeUnit.SECONDS));
+        assertEquals(2, counter.slowReads.get());
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class Counter {
+
+        private int value;
+
+        final AtomicInteger slowReads = new AtomicInteger();
+
+        @Lock(Type.OPTIMISTIC_READ)
+        int get() {
+            return value;
+        }
+
+        @Lock(Type.OPTIMISTIC_READ)
+        int getSlowly(CountDownLatch inside, CountDownLatch mayComplete) throws InterruptedException {
+            int current = value;
+            if (slowReads.incrementAndGet() == 1) {
+                inside.countDown();
+                assertTrue(mayComplete.await(5, TimeUnit.SECONDS));
+            }
+            return current;
+        }
+
+        void increment() {
+            value++;
+        }
+
+        void increment(CountDownLatch inside, CountDownLatch mayComplete) throws InterruptedException {
+            inside.countDown();
+            assertTrue(mayComplete.await(5, TimeUnit.SECONDS));
+            value++;
+        }
+
+    }
+
+}
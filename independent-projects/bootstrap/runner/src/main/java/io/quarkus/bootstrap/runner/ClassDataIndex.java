@@ -0,0 +1,71 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The location of the class files of a jar in the class data archive.
+ * <p>
+ * Each class file is stored in the archive after its name, as an unsigned short length followed by the UTF-8 bytes of the
+ * name. The index only holds the hash codes of the names, sorted, and the location of the corresponding entries, so that it
+ * does not keep a {@code String} and a map entry per class on the heap: the name is compared with the one stored in the
+ * archive once a hash code matches.
+ */
+final class ClassDataIndex {
+
+    //the class data archive shared by all the jars, never modified so it can be duplicated concurrently
+    private final ByteBuffer classData;
+    private final int[] hashes;
+    //the offset of the entry in the high 32 bits and the length of the class file in the low 32 bits
+    private final long[] locations;
+
+    /**
+     * @param hashes the hash codes of the class file names, sorted
+     * @param locations the locations of the entries, in the same order as the hash codes
+     */
+    ClassDataIndex(ByteBuffer classData, int[] hashes, long[] locations) {
+        this.classData = classData;
+        this.hashes = hashes;
+        this.locations = locations;
+    }
+
+    /**
+     * @return the class file, or {@code null} if it is not in the archive
+     */
+    byte[] read(String resource) {
+        final int hash = resource.hashCode();
+        int i = Arrays.binarySearch(hashes, hash);
+        if (i < 0) {
+            return null;
+        }
+        while (i > 0 && hashes[i - 1] == hash) {
+            i--;
+        }
+        final byte[] name = resource.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = classData.duplicate();
+        for (; i < hashes.length && hashes[i] == hash; i++) {
+            final long location = locations[i];
+            final int offset = (int) (location >>> 32);
+            if (nameEquals(buffer, offset, name)) {
+                final byte[] data = new byte[(int) location];
+                buffer.position(offset + 2 + name.length);
+                buffer.get(data);
+                return data;
+            }
+        }
+        return null;
+    }
+
+    private static boolean nameEquals(ByteBuffer buffer, int offset, byte[] name) {
+        if (Short.toUnsignedInt(buffer.getShort(offset)) != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(offset + 2 + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Preloads the classes recorded during a training run of the application.
+ * <p>
+ * When the application is launched with {@code -Dquarkus.class-preload.record=true}, the classes defined by the
+ * {@link RunnerClassLoader} are recorded in the order in which they are loaded, and the resulting profile is written
+ * to {@link #PROFILE_FILE} when the JVM exits. On the next startups, the classes of the profile are loaded in parallel
+ * before the main class of the application is invoked, so that the startup sequence finds them already defined.
+ * <p>
+ * The classes are loaded but not initialized, so preloading has no side effect.
+ */
+public final class ClassPreloader {
+
+    public static final String PROFILE_FILE = "quarkus/quarkus-preload-classes.lst";
+    /**
+     * Records the class loading profile of this run
+     */
+    public static final String RECORD_PROPERTY = "quarkus.class-preload.record";
+    /**
+     * Exits as soon as the application has started, used by the build to record the class loading profile
+     */
+    public static final String TRAINING_RUN_PROPERTY = "quarkus.class-preload.training-run";
+
+    private static final int MAX_THREADS = 4;
+
+    private ClassPreloader() {
+    }
+
+    static void record(RunnerClassLoader runnerClassLoader, Path profile) {
+        runnerClassLoader.startRecording();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Files.write(profile, runnerClassLoader.getRecordedClasses(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    System.err.println("Failed to write the class preload profile " + profile + ": " + e);
+                }
+            }
+        }, "Class preload profile writer"));
+    }
+
+    static void preload(RunnerClassLoader runnerClassLoader, Path profile) throws IOException {
+        final long start = System.nanoTime();
+        final List<String> classes = Files.readAllLines(profile, StandardCharsets.UTF_8);
+        final int threadCount = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        //each thread loads every threadCount-th class, so that the classes are loaded roughly in the recorded order
+        //and the superclasses, which were recorded first, are usually already defined
+        final Thread[] threads = new Thread[threadCount - 1];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Preloader(runnerClassLoader, classes, i + 1, threadCount),
+                    "Class preloader " + (i + 1));
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+        new Preloader(runnerClassLoader, classes, 0, threadCount).run();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        Timing.classesPreloaded(classes.size(), System.nanoTime() - start);
+    }
+
+    private static final class Preloader implements Runnable {
+
+        private final RunnerClassLoader runnerClassLoader;
+        private final List<String> classes;
+        private final int first;
+        private final int step;
+
+        Preloader(RunnerClassLoader runnerClassLoader, List<String> classes, int first, int step) {
+            this.runnerClassLoader = runnerClassLoader;
+            this.classes = classes;
+            this.first = first;
+            this.step = step;
+        }
+
+        @Override
+        public void run() {
+            for (int i = first; i < classes.size(); i += step) {
+                try {
+                    Class.forName(classes.get(i), false, runnerClassLoader);
+                } catch (Throwable ignored) {
+                    //the class may have been removed since the profile was recorded
+                }
+            }
+        }
+    }
+}
@@ -24,11 +24,16 @@
 
 /**
  * A jar resource
+ * <p>
+ * If the application was packaged with a class data archive, the class files of the jar are read from this memory mapped
+ * archive without locking and without opening the jar.
  */
 public class JarResource implements ClassLoadingResource {
 
     private final ManifestInfo manifestInfo;
     private final Path jarPath;
+    //the location of the class files of this jar in the class data archive, null if they are only in the jar
+    private final ClassDataIndex classDataIndex;
 
     private final Lock readLock;
     private final Lock writeLock;
@@ -44,8 +49,13 @@ public class JarResource implements ClassLoadingResource {
     private volatile JarFile zipFile;
 
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, null);
+    }
+
+    JarResource(ManifestInfo manifestInfo, Path jarPath, ClassDataIndex classDataIndex) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.classDataIndex = classDataIndex;
         final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
         this.readLock = readWriteLock.readLock();
         this.writeLock = readWriteLock.writeLock();
@@ -69,6 +79,12 @@ public void init(ClassLoader runnerClassLoader) {
 
     @Override
     public byte[] getResourceData(String resource) {
+        if (classDataIndex != null) {
+            final byte[] data = classDataIndex.read(resource);
+            if (data != null) {
+                return data;
+            }
+        }
         final ZipFile zipFile = readLockAcquireAndGetJarReference();
         try {
             ZipEntry entry = zipFile.getEntry(resource);
@@ -54,6 +54,12 @@ private static void doRun(Object args) throws IOException, ClassNotFoundExceptio
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            Path preloadProfile = appRoot.resolve(ClassPreloader.PROFILE_FILE);
+            if (Boolean.getBoolean(ClassPreloader.RECORD_PROPERTY)) {
+                ClassPreloader.record(appRunnerClassLoader, preloadProfile);
+            } else if (Files.exists(preloadProfile)) {
+                ClassPreloader.preload(appRunnerClassLoader, preloadProfile);
+            }
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
@@ -6,7 +6,9 @@
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.crac.Context;
 import org.crac.Resource;
@@ -26,6 +28,12 @@
  */
 public final class RunnerClassLoader extends ClassLoader {
 
+    static {
+        //the classes are loaded concurrently, e.g. by the ClassPreloader: loadClass does not need the class loader lock,
+        //a concurrent definition of the same class fails with a LinkageError, in which case the defined class is returned
+        registerAsParallelCapable();
+    }
+
     /**
      * A map of resources by dir name. Root dir/default package is represented by the empty string
      */
@@ -46,6 +54,9 @@ public final class RunnerClassLoader extends ClassLoader {
 
     private final CracResource resource;
 
+    //the names of the defined classes in definition order, only set while recording a class preload profile
+    private volatile Queue<String> recordedClasses;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
@@ -102,7 +113,12 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> definedClass = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    final Queue<String> recordedClasses = this.recordedClasses;
+                    if (recordedClasses != null) {
+                        recordedClasses.add(name);
+                    }
+                    return definedClass;
                 } catch (LinkageError e) {
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
@@ -299,6 +315,15 @@ public void resetInternalCaches() {
         }
     }
 
+    void startRecording() {
+        recordedClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    List<String> getRecordedClasses() {
+        final Queue<String> recordedClasses = this.recordedClasses;
+        return recordedClasses == null ? Collections.emptyList() : new ArrayList<>(recordedClasses);
+    }
+
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
@@ -1,16 +1,22 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -24,6 +30,8 @@
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
 
+import org.jboss.logging.Logger;
+
 /**
  * Data that reads serialized Class Path info
  *
@@ -37,7 +45,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -61,17 +69,31 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
-        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, null);
+    }
+
+    /**
+     * @param classDataArchive if not null, the class files of the class path are also stored uncompressed in this file,
+     *        which is memory mapped at runtime so that the classes can be loaded without going through the jars
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Path classDataArchive)
+            throws IOException {
+        try (DataOutputStream data = new DataOutputStream(outputStream);
+                ClassDataArchiveWriter classData = classDataArchive == null ? null
+                        : new ClassDataArchiveWriter(classDataArchive)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            writeNullableString(data, classDataArchive == null ? null
+                    : applicationRoot.relativize(classDataArchive).toString().replace('\\', '/'));
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, classData);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -110,6 +132,8 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            String classDataArchive = readNullableString(in);
+            ByteBuffer classData = classDataArchive == null ? null : mapClassData(appRoot.resolve(classDataArchive));
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -122,7 +146,8 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                ClassDataIndex classDataIndex = readClassDataIndex(in, classData);
+                JarResource resource = new JarResource(info, appRoot.resolve(path), classDataIndex);
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -174,11 +199,36 @@ private static String readNullableString(DataInputStream in) throws IOException
         return null;
     }
 
+    private static ByteBuffer mapClassData(Path classDataArchive) throws IOException {
+        try (FileChannel channel = FileChannel.open(classDataArchive, StandardOpenOption.READ)) {
+            //the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @return the location of the class files of a jar in the class data archive, see {@link ClassDataIndex}
+     */
+    private static ClassDataIndex readClassDataIndex(DataInputStream in, ByteBuffer classData) throws IOException {
+        int numClasses = in.readInt();
+        if (numClasses == 0) {
+            return null;
+        }
+        int[] hashes = new int[numClasses];
+        long[] locations = new long[numClasses];
+        for (int i = 0; i < numClasses; i++) {
+            hashes[i] = in.readInt();
+            locations[i] = in.readLong();
+        }
+        return new ClassDataIndex(classData, hashes, locations);
+    }
+
     /**
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, ClassDataArchiveWriter classData)
+            throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -201,10 +251,26 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
 
             Set<String> dirs = new HashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new HashMap<>();
+            //the versioned entries of multi release jars are resolved by the JarFile at runtime, so their classes are not
+            //stored in the class data archive
+            boolean indexClasses = classData != null && !zip.isMultiRelease();
+            List<Integer> classHashes = new ArrayList<>();
+            List<Long> classLocations = new ArrayList<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
             boolean hasDefaultPackage = false;
             while (entries.hasMoreElements()) {
                 ZipEntry entry = entries.nextElement();
+                if (indexClasses && !entry.isDirectory() && entry.getName().endsWith(".class")) {
+                    long location;
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        location = classData.append(entry.getName(), in.readAllBytes());
+                    }
+                    //the class is read from the jar if the archive is full
+                    if (location != -1) {
+                        classHashes.add(entry.getName().hashCode());
+                        classLocations.add(location);
+                    }
+                }
                 if (!entry.getName().contains("/")) {
                     hasDefaultPackage = true;
                     if (!entry.getName().isEmpty() && FULLY_INDEXED_PATHS.contains("")) {
@@ -247,6 +313,17 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
             if (hasDefaultPackage) {
                 dirs.add("");
             }
+            //the index is sorted by hash code, the hash code in the high 32 bits keeps the signed order
+            long[] sortedClasses = new long[classHashes.size()];
+            for (int i = 0; i < sortedClasses.length; i++) {
+                sortedClasses[i] = (long) classHashes.get(i) << 32 | i;
+            }
+            Arrays.sort(sortedClasses);
+            out.writeInt(sortedClasses.length);
+            for (long sortedClass : sortedClasses) {
+                out.writeInt((int) (sortedClass >>> 32));
+                out.writeLong(classLocations.get((int) sortedClass));
+            }
             out.writeShort(dirs.size());
             for (String i : dirs) {
                 out.writeUTF(i);
@@ -317,6 +394,50 @@ private static void writeNullableString(DataOutputStream out, String string) thr
         }
     }
 
+    /**
+     * Appends the class files to the class data archive, see {@link ClassDataIndex} for the layout. As the archive is mapped
+     * in a single {@link ByteBuffer}, its size is limited to 2GB: the classes which do not fit are read from the jars.
+     */
+    private static class ClassDataArchiveWriter implements AutoCloseable {
+        private final OutputStream out;
+        private long size;
+        private boolean full;
+
+        ClassDataArchiveWriter(Path path) throws IOException {
+            this.out = new BufferedOutputStream(Files.newOutputStream(path));
+        }
+
+        /**
+         * @return the offset of the entry in the archive in the high 32 bits and the length of the data in the low 32 bits,
+         *         or -1 if the archive is full
+         */
+        long append(String name, byte[] data) throws IOException {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            long entrySize = 2 + nameBytes.length + data.length;
+            if (full || size + entrySize > Integer.MAX_VALUE) {
+                if (!full) {
+                    full = true;
+                    //only used by the build, the logging must not be initialized when the application is read
+                    Logger.getLogger(SerializedApplication.class)
+                            .warn("The class data archive cannot exceed 2GB, the remaining classes are loaded from the jars");
+                }
+                return -1;
+            }
+            long location = size << 32 | data.length;
+            out.write(nameBytes.length >>> 8);
+            out.write(nameBytes.length);
+            out.write(nameBytes);
+            out.write(data);
+            size += entrySize;
+            return location;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
     /**
      * This class is to build up the final directory to Resource map
      * The idea here is that directories will only be contained by a single resource, so we optimistically
@@ -24,6 +24,10 @@ public class Timing {
 
     private volatile String httpServerInfo = "";
 
+    private volatile int preloadedClasses = -1;
+
+    private volatile long preloadTime;
+
     private static final String UNSET_VALUE = "<<unset>>";
 
     private static final Timing main = new Timing();
@@ -70,6 +74,14 @@ public static void setHttpServer(String info, boolean auxiliary) {
         t.httpServerInfo = info;
     }
 
+    /**
+     * Called when the classes of the class preload profile have been loaded, before the application is started.
+     */
+    public static void classesPreloaded(int count, long timeNanoSeconds) {
+        main.preloadedClasses = count;
+        main.preloadTime = timeNanoSeconds;
+    }
+
     /**
      * This method is replaced in native mode
      */
@@ -109,6 +121,11 @@ public static void printStartupTime(String name, String version, String quarkusV
         logger.infof("Profile%s %s activated. %s", profiles.size() > 1 ? "s" : "", String.join(",", profiles),
                 liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
+        if (t.preloadedClasses >= 0) {
+            logger.infof("Preloaded %d classes in %ss, included in the startup time", t.preloadedClasses,
+                    convertToBigDecimalSeconds(t.preloadTime));
+            t.preloadedClasses = -1;
+        }
         t.bootStartTime = -1;
     }
 
@@ -4,6 +4,8 @@
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -42,6 +44,35 @@ public void testResourceURLEncodingWithQuestionMark() throws Exception {
         testInternal("test?dir");
     }
 
+    /**
+     * Tests that the class files present in the class data archive are read from the archive, comparing the names when the
+     * hash codes collide, and that the other resources are read from the jar
+     */
+    @Test
+    public void testClassDataArchive() throws Exception {
+        final JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        jar.add(new StringAsset("from-jar"), "a/B.class");
+        jar.add(new StringAsset("hello"), "a/c.txt");
+        final Path jarFilePath = Files.createTempFile("test", "quarkus-test.jar");
+        jar.as(ZipExporter.class).exportTo(jarFilePath.toFile(), true);
+        // "a/B.class" and "a/C.class" are stored with the hash code of "a/C.class", as if they collided
+        final ByteBuffer classData = ByteBuffer.wrap("..\u0000\u0009a/B.classfrom-archive\u0000\u0009a/C.classother"
+                .getBytes(StandardCharsets.UTF_8));
+        final int hash = "a/C.class".hashCode();
+        final ClassDataIndex classDataIndex = new ClassDataIndex(classData, new int[] { hash, hash },
+                new long[] { 2L << 32 | 12, 25L << 32 | 5 });
+        final JarResource jarResource = new JarResource(null, jarFilePath, classDataIndex);
+        try {
+            Assertions.assertEquals("other", new String(jarResource.getResourceData("a/C.class"), StandardCharsets.UTF_8));
+            // the hash code of "a/B.class" is not in the index, it is read from the jar
+            Assertions.assertEquals("from-jar", new String(jarResource.getResourceData("a/B.class"), StandardCharsets.UTF_8));
+            Assertions.assertEquals("hello", new String(jarResource.getResourceData("a/c.txt"), StandardCharsets.UTF_8));
+            Assertions.assertNull(jarResource.getResourceData("a/D.class"));
+        } finally {
+            jarResource.close();
+        }
+    }
+
     /**
      * Tests that the URL(s) returned from {@link JarResource#getResourceURL(String)} are properly encoded and can be used
      * to open connection to the URL to read data
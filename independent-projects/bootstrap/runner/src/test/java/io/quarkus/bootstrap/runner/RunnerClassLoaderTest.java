@@ -0,0 +1,136 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the recording and the preloading of the classes defined by {@link RunnerClassLoader}
+ */
+public class RunnerClassLoaderTest {
+
+    private static final String PACKAGE_DIR = RunnerClassLoaderTest.class.getPackageName().replace('.', '/');
+
+    @Test
+    public void testRecord() throws Exception {
+        final Path jarFilePath = createJar();
+        final RunnerClassLoader runnerClassLoader = createRunnerClassLoader(jarFilePath);
+        try {
+            runnerClassLoader.startRecording();
+            runnerClassLoader.loadClass(Child.class.getName());
+            runnerClassLoader.loadClass(Child.class.getName());
+            //the superclass is defined first, and each class is recorded once
+            Assertions.assertEquals(List.of(Parent.class.getName(), Child.class.getName()),
+                    runnerClassLoader.getRecordedClasses());
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    @Test
+    public void testPreload() throws Exception {
+        final Path jarFilePath = createJar();
+        final Path profile = Files.createTempFile("test", "quarkus-preload-classes.lst");
+        Files.write(profile, List.of(Parent.class.getName(), Child.class.getName(), "org.acme.Missing"),
+                StandardCharsets.UTF_8);
+        final RunnerClassLoader runnerClassLoader = createRunnerClassLoader(jarFilePath);
+        try {
+            runnerClassLoader.startRecording();
+            ClassPreloader.preload(runnerClassLoader, profile);
+            //the missing class is ignored
+            Assertions.assertEquals(Set.of(Parent.class.getName(), Child.class.getName()),
+                    new HashSet<>(runnerClassLoader.getRecordedClasses()));
+            final Class<?> child = runnerClassLoader.loadClass(Child.class.getName());
+            Assertions.assertSame(runnerClassLoader, child.getClassLoader());
+            Assertions.assertEquals(2, runnerClassLoader.getRecordedClasses().size());
+            //preloading does not initialize the classes
+            Assertions.assertNull(System.getProperty(Child.INITIALIZED_PROPERTY));
+        } finally {
+            runnerClassLoader.close();
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        final Path jarFilePath = createJar();
+        final RunnerClassLoader runnerClassLoader = createRunnerClassLoader(jarFilePath);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Class<?>>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                final String name = (i % 2 == 0 ? Child.class : Parent.class).getName();
+                tasks.add(() -> runnerClassLoader.loadClass(name));
+            }
+            Class<?> parent = null;
+            Class<?> child = null;
+            for (Future<Class<?>> future : executor.invokeAll(tasks)) {
+                final Class<?> loaded = future.get();
+                if (loaded.getName().equals(Child.class.getName())) {
+                    Assertions.assertTrue(child == null || child == loaded);
+                    child = loaded;
+                } else {
+                    Assertions.assertTrue(parent == null || parent == loaded);
+                    parent = loaded;
+                }
+            }
+            Assertions.assertSame(parent, child.getSuperclass());
+        } finally {
+            executor.shutdownNow();
+            runnerClassLoader.close();
+        }
+    }
+
+    private static RunnerClassLoader createRunnerClassLoader(Path jarFilePath) {
+        final JarResource jarResource = new JarResource(null, jarFilePath);
+        final RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getPlatformClassLoader(),
+                Map.of(PACKAGE_DIR, new ClassLoadingResource[] { jarResource }), Collections.emptySet(),
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+        jarResource.init(runnerClassLoader);
+        return runnerClassLoader;
+    }
+
+    private static Path createJar() throws Exception {
+        final JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (Class<?> clazz : List.of(Parent.class, Child.class)) {
+            final String resource = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream is = RunnerClassLoaderTest.class.getClassLoader().getResourceAsStream(resource)) {
+                jar.add(new ByteArrayAsset(is.readAllBytes()), resource);
+            }
+        }
+        final Path jarFilePath = Files.createTempFile("test", "quarkus-test.jar");
+        jar.as(ZipExporter.class).exportTo(jarFilePath.toFile(), true);
+        jarFilePath.toFile().deleteOnExit();
+        return jarFilePath;
+    }
+
+    public static class Parent {
+    }
+
+    public static class Child extends Parent {
+
+        static final String INITIALIZED_PROPERTY = "runner-class-loader-test.initialized";
+
+        static {
+            System.setProperty(INITIALIZED_PROPERTY, "true");
+        }
+    }
+}
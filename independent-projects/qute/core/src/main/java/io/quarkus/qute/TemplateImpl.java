@@ -138,9 +138,17 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<String> cs = renderAsyncNoTimeout();
+            if (cs instanceof CompletedStage) {
+                CompletedStage<String> completed = (CompletedStage<String>) cs;
+                if (!completed.isFailure()) {
+                    // Fast path - the template was rendered synchronously
+                    return completed.get();
+                }
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return cs.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -188,20 +196,21 @@ public Uni<String> createUni() {
 
         @Override
         public CompletionStage<String> renderAsync() {
-            CompletionStage<String> cs = renderAsyncNoTimeout();
+            // CompletedStage does not implement most of the CompletionStage methods, it must not be handed to the caller
+            CompletableFuture<String> cf = renderAsyncNoTimeout().toCompletableFuture();
             if (engine.useAsyncTimeout()) {
-                cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
+                cf = cf.orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
-            return cs;
+            return cf;
         }
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            CompletionStage<Void> cs = renderData(data(), resultConsumer);
+            CompletableFuture<Void> cf = renderData(data(), resultConsumer).toCompletableFuture();
             if (engine.useAsyncTimeout()) {
-                cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
+                cf = cf.orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
-            return cs;
+            return cf;
         }
 
         private TemplateException newTimeoutException(long timeout) {
@@ -219,38 +228,48 @@ private CompletionStage<String> renderAsyncNoTimeout() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (resolved instanceof CompletedStage) {
+                // All values were resolved synchronously - there's no need to register a callback and wait for the result
+                return resolved.thenAccept(r -> processResult(r, consumer));
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
-                    // Sync processing of the result tree - build the output
                     try {
-                        r.process(consumer);
+                        processResult(r, consumer);
                         result.complete(null);
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
-                    } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
                     }
                 }
             });
             return result;
         }
 
+        private void processResult(ResultNode resultNode, Consumer<String> consumer) {
+            // Sync processing of the result tree - build the output
+            try {
+                resultNode.process(consumer);
+            } finally {
+                if (renderedActions != null) {
+                    for (Runnable action : renderedActions) {
+                        try {
+                            action.run();
+                        } catch (Throwable e) {
+                            LOG.error("Unable to perform an action when rendering finished", e);
+                        }
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
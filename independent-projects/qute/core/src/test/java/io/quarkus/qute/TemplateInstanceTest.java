@@ -3,6 +3,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,26 @@ public void testRendered() {
         assertTrue(rendered.get());
     }
 
+    @Test
+    public void testSyncRendering() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Hello {foo}!");
+        AtomicBoolean rendered = new AtomicBoolean();
+        CompletableFuture<String> result = hello.instance().data("foo", "baz").onRendered(() -> rendered.set(true))
+                .renderAsync().toCompletableFuture();
+        // All values are resolved synchronously
+        assertTrue(result.isDone());
+        assertTrue(rendered.get());
+        assertEquals("Hello baz!", result.join());
+        // The returned stages support the whole CompletionStage API
+        assertEquals("Hello baz!?", hello.instance().data("foo", "baz").renderAsync()
+                .thenApplyAsync(s -> s + "?").toCompletableFuture().join());
+        StringBuilder consumed = new StringBuilder();
+        hello.instance().data("foo", "baz").consume(consumed::append)
+                .thenRunAsync(() -> consumed.append("?")).toCompletableFuture().join();
+        assertEquals("Hello baz!?", consumed.toString());
+    }
+
     @Test
     public void testGetTemplate() {
         Engine engine = Engine.builder().addDefaults().build();
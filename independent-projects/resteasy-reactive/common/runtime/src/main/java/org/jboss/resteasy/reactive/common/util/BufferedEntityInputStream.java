@@ -0,0 +1,41 @@
+package org.jboss.resteasy.reactive.common.util;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * The stream of an entity which has been fully read in memory.
+ * <p>
+ * It gives access to the bytes which have not been read yet, so that the readers able to parse an array, like Jackson,
+ * can read the entity in place instead of copying it chunk by chunk from the stream.
+ */
+public class BufferedEntityInputStream extends ByteArrayInputStream {
+
+    public BufferedEntityInputStream(byte[] buf) {
+        super(buf);
+    }
+
+    public BufferedEntityInputStream(byte[] buf, int offset, int length) {
+        super(buf, offset, length);
+    }
+
+    /**
+     * @return the array holding the entity, which must not be modified
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    /**
+     * @return the index in {@link #array()} of the next byte to read
+     */
+    public int position() {
+        return pos;
+    }
+
+    /**
+     * Marks the remaining bytes as read, once they have been consumed through {@link #array()}.
+     */
+    public void consume() {
+        pos = count;
+    }
+}
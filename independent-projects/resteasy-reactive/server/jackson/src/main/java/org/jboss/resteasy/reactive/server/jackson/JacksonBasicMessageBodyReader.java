@@ -11,6 +11,7 @@
 import javax.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.reactive.common.providers.serialisers.AbstractJsonMessageBodyReader;
+import org.jboss.resteasy.reactive.common.util.BufferedEntityInputStream;
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +41,20 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
             return null;
         }
         ObjectReader reader = getEffectiveReader();
-        return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                .readValue(entityStream);
+        return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                entityStream);
+    }
+
+    /**
+     * Parses the entity in place when it has already been read in memory, rather than through the stream.
+     */
+    protected static Object readValue(ObjectReader reader, InputStream entityStream) throws IOException {
+        if (entityStream instanceof BufferedEntityInputStream) {
+            BufferedEntityInputStream bufferedStream = (BufferedEntityInputStream) entityStream;
+            Object value = reader.readValue(bufferedStream.array(), bufferedStream.position(), bufferedStream.available());
+            bufferedStream.consume();
+            return value;
+        }
+        return reader.readValue(entityStream);
     }
 }
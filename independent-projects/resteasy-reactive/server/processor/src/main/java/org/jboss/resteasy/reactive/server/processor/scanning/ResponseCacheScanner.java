@@ -0,0 +1,58 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.ResponseCacheChainCustomizer;
+
+public class ResponseCacheScanner implements MethodScanner {
+
+    private static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    private static final int DEFAULT_MAX_AGE = 60;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        boolean isGet = annotationStore.hasAnnotation(method, ResteasyReactiveDotNames.GET);
+        AnnotationInstance instance = annotationStore.getAnnotation(method, CACHED_RESPONSE);
+        if (instance != null) {
+            if (!isGet) {
+                throw new IllegalStateException(
+                        "'@CachedResponse' can only be used on resource methods annotated with '@GET'. Offending method is '"
+                                + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+        } else {
+            instance = annotationStore.getAnnotation(actualEndpointClass, CACHED_RESPONSE);
+            if (instance == null || !isGet) {
+                return Collections.emptyList();
+            }
+        }
+
+        AnnotationValue maxAgeValue = instance.value("maxAge");
+        int maxAge = maxAgeValue != null ? maxAgeValue.asInt() : DEFAULT_MAX_AGE;
+        AnnotationValue varyHeadersValue = instance.value("varyHeaders");
+        String[] varyHeaders = varyHeadersValue != null ? varyHeadersValue.asStringArray() : new String[0];
+        AnnotationValue maxEntriesValue = instance.value("maxEntries");
+        int maxEntries = maxEntriesValue != null ? maxEntriesValue.asInt() : DEFAULT_MAX_ENTRIES;
+        if (maxAge <= 0 || maxEntries <= 0) {
+            throw new IllegalStateException(
+                    "'@CachedResponse' requires a positive 'maxAge' and 'maxEntries'. Offending method is '"
+                            + method.name() + "' of class '" + method.declaringClass().name() + "'");
+        }
+        return Collections.singletonList(new ResponseCacheChainCustomizer(maxAge, varyHeaders, maxEntries));
+    }
+}
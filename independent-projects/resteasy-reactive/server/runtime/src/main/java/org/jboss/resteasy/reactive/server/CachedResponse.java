@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When placed on a {@code GET} resource method (or on a resource class, in which case it applies to all of its {@code GET}
+ * methods), the serialized response body and headers are cached in memory by the server.
+ * <p>
+ * Cache hits are served without invoking the resource method or any {@link javax.ws.rs.ext.MessageBodyWriter}. Request and
+ * response filters still run for every request. The cache key is composed of the request path, the query string, the
+ * {@code Accept} header and the values of the headers listed in {@link #varyHeaders()}.
+ * <p>
+ * Only {@code 200} responses are cached. A response is not cached if its {@code Cache-Control} header contains
+ * {@code no-store}, {@code no-cache} or {@code private}, or if the request contains {@code Cache-Control: no-store}. A
+ * request with {@code Cache-Control: no-cache} bypasses the cached entry and refreshes it. Every cached response carries an
+ * {@code ETag} header, and a request whose {@code If-None-Match} header matches it is answered with {@code 304}.
+ * <p>
+ * The cache is shared by all the callers, so a request carrying an {@code Authorization} or a {@code Cookie} header, or
+ * coming from an authenticated user, is never answered from the cache and its response is never stored.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * The number of seconds a cached response is served for.
+     */
+    int maxAge() default 60;
+
+    /**
+     * The names of the request headers whose values are part of the cache key. These headers are also added to the
+     * {@code Vary} response header.
+     */
+    String[] varyHeaders() default {};
+
+    /**
+     * The maximum number of responses cached for a single resource method. When the limit is reached, the expired entries are
+     * removed and, if that does not free a quarter of the cache, the oldest entries as well.
+     */
+    int maxEntries() default 1000;
+}
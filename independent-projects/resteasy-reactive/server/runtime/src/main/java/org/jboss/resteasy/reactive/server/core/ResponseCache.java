@@ -0,0 +1,379 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.jaxrs.ResponseBuilderImpl;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+
+/**
+ * Holds the serialized responses of a single resource method annotated with
+ * {@link org.jboss.resteasy.reactive.server.CachedResponse}.
+ */
+public class ResponseCache {
+
+    private static final String PRAGMA = "Pragma";
+    private static final String AGE = "Age";
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String PRIVATE = "private";
+
+    /**
+     * Writes a cached body without going through a {@link MessageBodyWriter}.
+     */
+    private static final EntityWriter CACHED_BODY_WRITER = new EntityWriter() {
+        @Override
+        public void write(ResteasyReactiveRequestContext context, Object entity) {
+            ServerSerialisers.encodeResponseHeaders(context);
+            context.serverResponse().end((byte[]) entity);
+        }
+    };
+
+    private final long maxAgeNanos;
+    private final String[] varyHeaders;
+    private final String vary;
+    private final int maxEntries;
+    private final ConcurrentMap<String, Entry> entries;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public ResponseCache(int maxAge, String[] varyHeaders, int maxEntries) {
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAge);
+        this.varyHeaders = varyHeaders;
+        this.vary = varyHeaders.length == 0 ? null : String.join(", ", varyHeaders);
+        this.maxEntries = maxEntries;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the key of the current request: path, query, {@code Accept} and the vary headers
+     */
+    public String key(ResteasyReactiveRequestContext context) {
+        ServerHttpRequest request = context.serverRequest();
+        StringBuilder key = new StringBuilder(context.getPath());
+        String query = request.query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        appendHeader(key, request, HttpHeaders.ACCEPT);
+        for (String header : varyHeaders) {
+            appendHeader(key, request, header);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Answers the current request with the cached response, if there is a fresh one.
+     */
+    public void serve(ResteasyReactiveRequestContext context) {
+        if (isCredentialed(context)) {
+            return;
+        }
+        String cacheControl = context.serverRequest().getRequestHeader(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null) {
+            cacheControl = cacheControl.toLowerCase(Locale.ROOT);
+            if (cacheControl.contains(NO_STORE) || cacheControl.contains(NO_CACHE)) {
+                return;
+            }
+        }
+        String pragma = context.serverRequest().getRequestHeader(PRAGMA);
+        if (pragma != null && pragma.toLowerCase(Locale.ROOT).contains(NO_CACHE)) {
+            return;
+        }
+        String key = key(context);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - entry.created >= maxAgeNanos) {
+            entries.remove(key, entry);
+            return;
+        }
+        ResponseBuilderImpl builder = new ResponseBuilderImpl();
+        if (entry.matches(context.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH))) {
+            builder.status(Response.Status.NOT_MODIFIED.getStatusCode());
+            builder.header(HttpHeaders.ETAG, entry.etag);
+            if (vary != null) {
+                builder.header(HttpHeaders.VARY, vary);
+            }
+        } else {
+            builder.status(Response.Status.OK.getStatusCode());
+            builder.entity(entry.body);
+            for (int i = 0; i < entry.headerNames.length; i++) {
+                builder.header(entry.headerNames[i], entry.headerValues[i]);
+            }
+            builder.header(AGE, Long.toString(TimeUnit.NANOSECONDS.toSeconds(now - entry.created)));
+            context.setEntityWriter(CACHED_BODY_WRITER);
+        }
+        context.abortWith(builder.build(false));
+    }
+
+    /**
+     * Replaces the entity writer of the current request with one that serializes the entity, stores the result and writes
+     * it out. Does nothing if the response cannot be cached.
+     */
+    public void prepareStore(ResteasyReactiveRequestContext context) {
+        if (context.getWriterInterceptors() != null || context.getOutputStream() != null) {
+            // the cached bytes would not be what the interceptors or the endpoint write
+            return;
+        }
+        if (isCredentialed(context)) {
+            return;
+        }
+        String cacheControl = context.serverRequest().getRequestHeader(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains(NO_STORE)) {
+            return;
+        }
+        Response response = context.getResponse().get();
+        if (response.getStatus() != Response.Status.OK.getStatusCode() || !response.hasEntity()) {
+            return;
+        }
+        EntityWriter delegate = context.getEntityWriter();
+        if (delegate == null) {
+            delegate = context.getDeployment().getDynamicEntityWriter();
+        }
+        context.setEntityWriter(new StoringEntityWriter(key(context), delegate));
+    }
+
+    private void store(String key, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            if (!evicting.compareAndSet(false, true)) {
+                // another request is making room, do not wait for it
+                return;
+            }
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    /**
+     * Removes the expired entries and, if that is not enough, the oldest quarter of the entries, so that the cost of the scan
+     * is spread over the many responses that can be stored before the cache is full again.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(e -> now - e.created >= maxAgeNanos);
+        int size = entries.size();
+        if (size < maxEntries - maxEntries / 4) {
+            return;
+        }
+        long[] created = new long[size];
+        int count = 0;
+        for (Entry e : entries.values()) {
+            if (count == created.length) {
+                break;
+            }
+            created[count++] = now - e.created;
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(created, 0, count);
+        // ages are sorted in ascending order, the entries at least as old as the threshold go away
+        long threshold = created[Math.max(0, count - Math.max(1, maxEntries / 4))];
+        entries.values().removeIf(e -> now - e.created >= threshold);
+    }
+
+    /**
+     * A response depending on who sends the request must not be served to somebody else, so the requests carrying
+     * credentials or coming from an authenticated user are never answered from, nor stored in, the cache.
+     */
+    private static boolean isCredentialed(ResteasyReactiveRequestContext context) {
+        ServerHttpRequest request = context.serverRequest();
+        if (request.getRequestHeader(HttpHeaders.AUTHORIZATION) != null
+                || request.getRequestHeader(HttpHeaders.COOKIE) != null) {
+            return true;
+        }
+        try {
+            return context.getSecurityContext().getUserPrincipal() != null;
+        } catch (UnsupportedOperationException e) {
+            // no security support, the headers are all that identify the caller
+            return false;
+        }
+    }
+
+    private static boolean isCacheable(MultivaluedMap<String, Object> headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        Object cacheControl = headers.getFirst(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null) {
+            String value = HeaderUtil.headerToString(cacheControl).toLowerCase(Locale.ROOT);
+            return !value.contains(NO_STORE) && !value.contains(NO_CACHE) && !value.contains(PRIVATE);
+        }
+        return true;
+    }
+
+    private static byte[] serialise(ResteasyReactiveRequestContext context, Object entity, Response response)
+            throws IOException {
+        ServerSerialisers serialisers = context.getDeployment().getSerialisers();
+        Class<?> entityClass = entity.getClass();
+        MediaType mediaType = context.getResponseMediaType();
+        List<MessageBodyWriter<?>> writers;
+        if (mediaType != null) {
+            writers = serialisers.findWriters(null, entityClass, mediaType, RuntimeType.SERVER);
+        } else {
+            // follow the same resolution as DynamicEntityWriter so that the cached bytes match what would have been written
+            RuntimeResource target = context.getTarget();
+            String accept = context.serverRequest().getRequestHeader(HttpHeaders.ACCEPT);
+            if (target != null && target.getProduces() != null) {
+                MediaType negotiated = target.getProduces().negotiateProduces(accept).getKey();
+                if (negotiated == null) {
+                    // nothing produced by the method is acceptable, let the regular writer report it
+                    return null;
+                }
+                writers = serialisers.findWriters(null, entityClass, negotiated, RuntimeType.SERVER);
+                for (MediaType methodMediaType : target.getProduces().getSortedOriginalMediaTypes()) {
+                    if (methodMediaType.isCompatible(negotiated)) {
+                        mediaType = methodMediaType;
+                        break;
+                    }
+                }
+            } else if (accept != null && !MediaType.WILDCARD.equals(accept)) {
+                // the writer depends on the weight of the accepted media types, let the regular writer handle it
+                return null;
+            } else {
+                ServerSerialisers.NoMediaTypeResult result = serialisers.findWriterNoMediaType(context, entity, serialisers,
+                        RuntimeType.SERVER);
+                writers = Arrays.asList(result.getWriters());
+                mediaType = result.getMediaType();
+            }
+            if (mediaType == null || writers.isEmpty() || MediaTypeHelper.isUnsupportedWildcardSubtype(mediaType)) {
+                return null;
+            }
+            context.setResponseContentType(mediaType);
+            if (!response.getHeaders().containsKey(HttpHeaders.CONTENT_TYPE)) {
+                response.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, context.getResponseContentType().toString());
+            }
+        }
+        Type genericType = context.getGenericReturnType();
+        Annotation[] annotations = context.getAllAnnotations();
+        for (int i = 0; i < writers.size(); i++) {
+            @SuppressWarnings("unchecked")
+            MessageBodyWriter<Object> writer = (MessageBodyWriter<Object>) writers.get(i);
+            if (writer.isWriteable(entityClass, genericType, annotations, mediaType)) {
+                StreamingOutputStream out = new StreamingOutputStream();
+                writer.writeTo(entity, entityClass, genericType, annotations, mediaType, response.getHeaders(), out);
+                return out.toByteArray();
+            }
+        }
+        return null;
+    }
+
+    private static void appendHeader(StringBuilder key, ServerHttpRequest request, String name) {
+        key.append('\n');
+        List<String> values = request.getAllRequestHeaders(name);
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(values.get(i));
+        }
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    private final class StoringEntityWriter implements EntityWriter {
+
+        private final String key;
+        private final EntityWriter delegate;
+
+        StoringEntityWriter(String key, EntityWriter delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+            // response filters ran in the meantime so the headers are final
+            Response response = context.getResponse().get();
+            MultivaluedMap<String, Object> headers = response.getHeaders();
+            byte[] body = isCacheable(headers) ? serialise(context, entity, response) : null;
+            if (body == null) {
+                delegate.write(context, entity);
+                return;
+            }
+            Object etag = headers.getFirst(HttpHeaders.ETAG);
+            if (etag == null) {
+                headers.putSingle(HttpHeaders.ETAG, etag(body));
+            }
+            if (vary != null) {
+                headers.add(HttpHeaders.VARY, vary);
+            }
+            store(key, new Entry(body, headers, System.nanoTime()));
+            CACHED_BODY_WRITER.write(context, body);
+        }
+    }
+
+    static final class Entry {
+
+        final byte[] body;
+        final String[] headerNames;
+        final String[] headerValues;
+        final String etag;
+        final long created;
+
+        Entry(byte[] body, MultivaluedMap<String, Object> headers, long created) {
+            this.body = body;
+            this.created = created;
+            List<String> names = new ArrayList<>();
+            List<String> values = new ArrayList<>();
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                for (Object value : header.getValue()) {
+                    names.add(header.getKey());
+                    values.add(HeaderUtil.headerToString(value));
+                }
+            }
+            this.headerNames = names.toArray(new String[0]);
+            this.headerValues = values.toArray(new String[0]);
+            this.etag = HeaderUtil.headerToString(headers.getFirst(HttpHeaders.ETAG));
+        }
+
+        boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
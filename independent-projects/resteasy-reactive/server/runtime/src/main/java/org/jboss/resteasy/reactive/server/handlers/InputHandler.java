@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +8,7 @@
 
 import javax.ws.rs.HttpMethod;
 
+import org.jboss.resteasy.reactive.common.util.BufferedEntityInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -72,16 +72,21 @@ class InputListener implements ServerHttpRequest.ReadCallback {
 
         @Override
         public void done() {
-            //super inefficient
-            //TODO: write a stream that just uses the existing vert.x buffers
-            byte[] ar = new byte[dataCount];
-            int count = 0;
-            for (ByteBuffer i : data) {
-                int remaining = i.remaining();
-                i.get(ar, count, remaining);
-                count += remaining;
+            if (data.size() == 1 && data.get(0).hasArray()) {
+                // the common case of a body received in a single chunk, the readers can parse it in place
+                ByteBuffer buffer = data.get(0);
+                context.setInputStream(new BufferedEntityInputStream(buffer.array(),
+                        buffer.arrayOffset() + buffer.position(), buffer.remaining()));
+            } else {
+                byte[] ar = new byte[dataCount];
+                int count = 0;
+                for (ByteBuffer i : data) {
+                    int remaining = i.remaining();
+                    i.get(ar, count, remaining);
+                    count += remaining;
+                }
+                context.setInputStream(new BufferedEntityInputStream(ar));
             }
-            context.setInputStream(new ByteArrayInputStream(ar));
             Thread.currentThread().setContextClassLoader(originalTCCL);
             context.resume();
         }
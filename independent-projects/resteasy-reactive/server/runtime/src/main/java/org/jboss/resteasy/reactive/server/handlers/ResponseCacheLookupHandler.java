@@ -0,0 +1,26 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Answers the request from the {@link ResponseCache} before the resource method is invoked, if possible
+ */
+public class ResponseCacheLookupHandler implements ServerRestHandler {
+
+    private final ResponseCache cache;
+
+    public ResponseCacheLookupHandler(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (requestContext.getResult() != null) {
+            //processing was aborted
+            return;
+        }
+        cache.serve(requestContext);
+    }
+}
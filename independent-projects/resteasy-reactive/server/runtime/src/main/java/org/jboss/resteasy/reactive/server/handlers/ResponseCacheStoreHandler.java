@@ -0,0 +1,22 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Makes sure the serialized response is stored in the {@link ResponseCache} when it is written
+ */
+public class ResponseCacheStoreHandler implements ServerRestHandler {
+
+    private final ResponseCache cache;
+
+    public ResponseCacheStoreHandler(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        cache.prepareStore(requestContext);
+    }
+}
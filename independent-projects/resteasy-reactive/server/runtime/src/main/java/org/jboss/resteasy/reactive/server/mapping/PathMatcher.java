@@ -20,11 +20,13 @@
     private final T defaultHandler;
     private final SubstringMap<T> paths;
     private final int[] lengths;
+    private final SubstringMap.SubstringMatch<T> defaultMatch;
 
     PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
         this.defaultHandler = defaultHandler;
         this.paths = paths;
         this.lengths = lengths;
+        this.defaultMatch = new SubstringMap.SubstringMatch<>("/", defaultHandler);
     }
 
     /**
@@ -34,23 +36,47 @@
      * @return The match match. This will never be null, however if none matched its value field will be
      */
     PathMatch<T> match(String path) {
+        SubstringMap.SubstringMatch<T> match = prefixMatch(path);
+        if (match == defaultMatch) {
+            return new PathMatch<>("/", path, defaultHandler);
+        }
+        int matchedLength = match.getKey().length();
+        return new PathMatch<>(match.getKey(), matchedLength == path.length() ? "" : path.substring(matchedLength),
+                match.getValue());
+    }
+
+    /**
+     * Matches a path against the registered handlers without allocating.
+     * <p>
+     * The hash of the longest candidate prefix is computed once and the hashes of the shorter candidates are derived
+     * from it, so the path is only hashed a single time regardless of the number of registered prefix lengths.
+     *
+     * @param path The relative path to match
+     * @return The longest matching prefix. This will never be null, if none matched the key is {@code /} and the value is
+     *         the default handler
+     */
+    SubstringMap.SubstringMatch<T> prefixMatch(String path) {
         int length = path.length();
         final int[] lengths = this.lengths;
+        int hashedLength = -1;
+        int hash = 0;
         for (int i = 0; i < lengths.length; ++i) {
-            int pathLength = lengths[i];
-            if (pathLength == length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
-                }
-            } else if (pathLength < length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
-                if (next != null) {
-                    return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                }
+            int prefixLength = lengths[i];
+            if (prefixLength > length) {
+                continue;
+            }
+            if (hashedLength == -1) {
+                hash = SubstringMap.hash(path, prefixLength);
+            } else {
+                hash = SubstringMap.truncateHash(path, hash, hashedLength, prefixLength);
+            }
+            hashedLength = prefixLength;
+            SubstringMap.SubstringMatch<T> next = paths.get(path, prefixLength, hash);
+            if (next != null) {
+                return next;
             }
         }
-        return new PathMatch<>("/", path, defaultHandler);
+        return defaultMatch;
     }
 
     static class Builder<T> {
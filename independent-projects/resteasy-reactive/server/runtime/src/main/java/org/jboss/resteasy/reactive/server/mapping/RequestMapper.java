@@ -54,19 +54,21 @@ private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
         int pathLength = path.length();
-        PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        SubstringMap.SubstringMatch<ArrayList<RequestPath<T>>> initialMatch = requestPaths.prefixMatch(path);
         if (initialMatch.getValue() == null) {
             return null;
         }
 
         ArrayList<RequestPath<T>> value = initialMatch.getValue();
+        int initialMatchLength = initialMatch.getKey().length();
+        // shared by all the candidates, only allocated once a candidate has a path parameter
+        String[] params = EMPTY_STRING_ARRAY;
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
+            int matchPos = initialMatchLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -76,6 +78,9 @@ public RequestMatch<T> map(String path) {
                         break;
                     }
                     matchPos = matcher.end();
+                    if (params.length == 0) {
+                        params = new String[maxParams];
+                    }
                     for (String group : segment.groups) {
                         params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
                     }
@@ -103,15 +108,15 @@ public RequestMatch<T> map(String path) {
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
+                    if (params.length == 0) {
+                        params = new String[maxParams];
+                    }
                     params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
                 }
             }
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -123,6 +128,10 @@ public RequestMatch<T> map(String path) {
                 }
             }
             if (fullMatch || doPrefixMatch) {
+                if (paramCount < params.length) {
+                    // clear the values left over by previous candidates
+                    Arrays.fill(params, paramCount, params.length, null);
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -16,6 +16,10 @@
  */
 class SubstringMap<V> {
     private static final int ALL_BUT_LAST_BIT = ~1;
+    /**
+     * The multiplicative inverse of 31 modulo 2^32, used to remove trailing characters from a hash
+     */
+    private static final int INVERSE_31 = 0xBDEF7BDF;
 
     private final Object[] table;
     private final int size;
@@ -37,12 +41,22 @@ SubstringMatch<V> get(String key) {
         return doGet(key, key.length());
     }
 
+    /**
+     * Variant of {@link #get(String, int)} for callers that already computed {@code hash(key, length)}
+     */
+    SubstringMatch<V> get(String key, int length, int hash) {
+        return doGet(key, length, hash);
+    }
+
     private SubstringMatch<V> doGet(String key, int length) {
+        return doGet(key, length, hash(key, length));
+    }
+
+    private SubstringMatch<V> doGet(String key, int length, int hash) {
         if (key.length() < length) {
             throw new IllegalArgumentException();
         }
         Object[] table = this.table;
-        int hash = hash(key, length);
         int pos = tablePos(table, hash);
         int start = pos;
         while (table[pos] != null) {
@@ -64,7 +78,7 @@ private static int tablePos(Object[] table, int hash) {
         return (hash & (table.length - 1)) & ALL_BUT_LAST_BIT;
     }
 
-    private static int hash(String value, int length) {
+    static int hash(String value, int length) {
         if (length == 0) {
             return 0;
         }
@@ -75,6 +89,17 @@ private static int hash(String value, int length) {
         return h;
     }
 
+    /**
+     * Turns {@code hash(value, length)} into {@code hash(value, newLength)} by removing the trailing characters
+     */
+    static int truncateHash(String value, int hash, int length, int newLength) {
+        int h = hash;
+        for (int i = length - 1; i >= newLength; i--) {
+            h = (h - value.charAt(i)) * INVERSE_31;
+        }
+        return h;
+    }
+
     private boolean doEquals(String s1, String s2, int length) {
         if (s1.length() != length || s2.length() < length) {
             return false;
@@ -0,0 +1,74 @@
+package org.jboss.resteasy.reactive.server.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheLookupHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheStoreHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Adds the handlers of {@link org.jboss.resteasy.reactive.server.CachedResponse} to the chain of a resource method.
+ * The {@link ResponseCache} is only created at runtime and is shared by the lookup and the store handler.
+ */
+public class ResponseCacheChainCustomizer implements HandlerChainCustomizer {
+
+    private int maxAge;
+    private String[] varyHeaders;
+    private int maxEntries;
+
+    private ResponseCache cache;
+
+    public ResponseCacheChainCustomizer(int maxAge, String[] varyHeaders, int maxEntries) {
+        this.maxAge = maxAge;
+        this.varyHeaders = varyHeaders;
+        this.maxEntries = maxEntries;
+    }
+
+    public ResponseCacheChainCustomizer() {
+    }
+
+    @Override
+    public List<ServerRestHandler> handlers(Phase phase, ResourceClass resourceClass,
+            ServerResourceMethod serverResourceMethod) {
+        if (phase == Phase.BEFORE_METHOD_INVOKE) {
+            return Collections.singletonList(new ResponseCacheLookupHandler(cache()));
+        } else if (phase == Phase.AFTER_RESPONSE_CREATED) {
+            return Collections.singletonList(new ResponseCacheStoreHandler(cache()));
+        }
+        return Collections.emptyList();
+    }
+
+    private ResponseCache cache() {
+        if (cache == null) {
+            cache = new ResponseCache(maxAge, varyHeaders, maxEntries);
+        }
+        return cache;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(int maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public String[] getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public void setVaryHeaders(String[] varyHeaders) {
+        this.varyHeaders = varyHeaders;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
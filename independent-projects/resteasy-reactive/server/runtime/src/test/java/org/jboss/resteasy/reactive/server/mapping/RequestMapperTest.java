@@ -0,0 +1,47 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testMatchesLongestPrefix() {
+        RequestMapper<String> mapper = mapper("/", "/hello", "/hello/world", "/hello/world/again", "/other/{id}");
+        assertEquals("/hello/world/again", mapper.map("/hello/world/again").value);
+        assertEquals("/hello/world", mapper.map("/hello/world").value);
+        assertEquals("/hello", mapper.map("/hello").value);
+        assertEquals("/", mapper.map("/").value);
+        assertNull(mapper.map("/hello/nope"));
+    }
+
+    @Test
+    public void testPathParams() {
+        RequestMapper<String> mapper = mapper("/items/{a}/{b}/{c}/x", "/items/{a}/y", "/items/static");
+        RequestMapper.RequestMatch<String> match = mapper.map("/items/1/y");
+        assertEquals("/items/{a}/y", match.value);
+        // the values captured by the candidates which did not match must not leak into the result
+        assertArrayEquals(new String[] { "1", null, null }, match.pathParamValues);
+
+        match = mapper.map("/items/1/2/3/x");
+        assertEquals("/items/{a}/{b}/{c}/x", match.value);
+        assertArrayEquals(new String[] { "1", "2", "3" }, match.pathParamValues);
+
+        match = mapper.map("/items/static");
+        assertEquals("/items/static", match.value);
+        assertEquals(0, match.pathParamValues.length);
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+}
@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -16,6 +15,7 @@
 
 import javax.ws.rs.core.HttpHeaders;
 
+import org.jboss.resteasy.reactive.common.util.BufferedEntityInputStream;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -25,6 +25,7 @@
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -49,7 +50,9 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     protected final RoutingContext context;
     protected final HttpServerRequest request;
     protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    private final Context currentContext;
+    // only needed when the processing is suspended, so it is created lazily; racing creations are harmless
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -65,21 +68,10 @@ public VertxResteasyReactiveRequestContext(Deployment deployment,
         this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
-        Context current = Vertx.currentContext();
+        this.currentContext = Vertx.currentContext();
         if (expect != null && expect.equalsIgnoreCase(CONTINUE)) {
             continueState = ContinueState.REQUIRED;
         }
-        this.contextExecutor = new Executor() {
-            @Override
-            public void execute(Runnable command) {
-                current.runOnContext(new Handler<Void>() {
-                    @Override
-                    public void handle(Void unused) {
-                        command.run();
-                    }
-                });
-            }
-        };
         request.pause();
     }
 
@@ -124,7 +116,22 @@ protected EventLoop getEventLoop() {
     }
 
     public Executor getContextExecutor() {
-        return contextExecutor;
+        Executor executor = contextExecutor;
+        if (executor == null) {
+            Context current = currentContext;
+            contextExecutor = executor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    current.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void unused) {
+                            command.run();
+                        }
+                    });
+                }
+            };
+        }
+        return executor;
     }
 
     @Override
@@ -236,9 +243,14 @@ public InputStream createInputStream(ByteBuffer existingData) {
     @Override
     public InputStream createInputStream() {
         if (context.getBody() != null) {
+            ByteBuf body = context.getBody().getByteBuf();
+            if (body.hasArray()) {
+                return new BufferedEntityInputStream(body.array(), body.arrayOffset() + body.readerIndex(),
+                        body.readableBytes());
+            }
             byte[] data = new byte[context.getBody().length()];
             context.getBody().getBytes(data);
-            return new ByteArrayInputStream(data);
+            return new BufferedEntityInputStream(data);
         }
         return new VertxInputStream(context, 10000, this);
     }
@@ -277,7 +289,8 @@ public void handle(Buffer event) {
                 if (devModeTccl != null) {
                     Thread.currentThread().setContextClassLoader(devModeTccl);
                 }
-                callback.data(ByteBuffer.wrap(event.getBytes()));
+                // the request buffers are never reused by Vert.x, so they can be passed along without a copy
+                callback.data(event.getByteBuf().nioBuffer());
             }
         });
         request.endHandler(new Handler<Void>() {
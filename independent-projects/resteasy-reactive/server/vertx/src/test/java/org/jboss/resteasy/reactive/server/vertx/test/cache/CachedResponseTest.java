@@ -0,0 +1,148 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new ResponseCacheScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class);
+                }
+            });
+
+    @Test
+    public void testHitSkipsResource() {
+        String etag = RestAssured.get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+        RestAssured.get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", equalTo(etag));
+        assertEquals(1, CachedResource.HELLO.get());
+
+        // a different query is a different entry
+        RestAssured.get("/cached/hello?name=bar")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello bar 2"));
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/hello?name=foo")
+                .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+
+        // no-cache refreshes the entry
+        RestAssured.given().header("Cache-Control", "no-cache")
+                .get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 3"));
+        RestAssured.get("/cached/hello?name=foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 3"));
+        assertEquals(3, CachedResource.HELLO.get());
+    }
+
+    @Test
+    public void testNoStoreResponseIsNotCached() {
+        RestAssured.get("/cached/no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1"));
+        RestAssured.get("/cached/no-store")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+    }
+
+    @Test
+    public void testCredentialedRequestIsNotCached() {
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YWxpY2U=")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("1"));
+        RestAssured.given().header("Cookie", "session=bob")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+        // neither response was stored
+        RestAssured.get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("3"));
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YWxpY2U=")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("4"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        static final AtomicInteger HELLO = new AtomicInteger();
+        static final AtomicInteger NO_STORE = new AtomicInteger();
+        static final AtomicInteger USER = new AtomicInteger();
+
+        @Path("hello")
+        @GET
+        @CachedResponse(maxAge = 600)
+        public String hello(@QueryParam("name") String name) {
+            return "hello " + name + " " + HELLO.incrementAndGet();
+        }
+
+        @Path("no-store")
+        @GET
+        @CachedResponse(maxAge = 600)
+        public Response noStore() {
+            return Response.ok(String.valueOf(NO_STORE.incrementAndGet())).header("Cache-Control", "no-store").build();
+        }
+
+        @Path("user")
+        @GET
+        @CachedResponse(maxAge = 600)
+        public String user() {
+            return String.valueOf(USER.incrementAndGet());
+        }
+    }
+}